@@ -1,5 +1,6 @@
 package com.samjenkins.auth_service.entity;
 
+import com.samjenkins.auth_service.util.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,7 +43,7 @@ public class RefreshTokenEntity {
 
     @PrePersist
     void prePersist() {
-        if (id == null) id = UUID.randomUUID();
+        if (id == null) id = UuidV7.next();
         if (issuedAt == null) issuedAt = Instant.now();
     }
 
@@ -1,5 +1,6 @@
 package com.samjenkins.auth_service.entity;
 
+import com.samjenkins.auth_service.util.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -33,7 +34,7 @@ public class UserEntity {
 
     @PrePersist
     void prePersist() {
-        if (id == null) id = UUID.randomUUID();
+        if (id == null) id = UuidV7.next();
         Instant now = Instant.now();
         createdAt = now;
         updatedAt = now;
@@ -0,0 +1,30 @@
+package com.samjenkins.auth_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void setsVersionAndVariantAndEmbedsCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingWithinAMillisecond() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits())).isPositive();
+            previous = next;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.samjenkins.budget_service;
 
+import com.samjenkins.budget_service.config.AlertRetentionProperties;
+import com.samjenkins.budget_service.config.IdempotencyProperties;
 import com.samjenkins.budget_service.config.JwtProperties;
+import com.samjenkins.budget_service.config.ReplicaDataSourceProperties;
+import com.samjenkins.budget_service.config.RolloverProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableScheduling
+@EnableConfigurationProperties({
+	JwtProperties.class,
+	RolloverProperties.class,
+	AlertRetentionProperties.class,
+	ReplicaDataSourceProperties.class,
+	IdempotencyProperties.class
+})
 public class BudgetServiceApplication {
 
 	public static void main(String[] args) {
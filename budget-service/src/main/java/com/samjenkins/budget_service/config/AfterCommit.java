@@ -0,0 +1,25 @@
+package com.samjenkins.budget_service.config;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs a task once the current transaction commits, or immediately when no transaction is active.
+ * Rolled-back transactions drop the task.
+ */
+public final class AfterCommit {
+    private AfterCommit() {}
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
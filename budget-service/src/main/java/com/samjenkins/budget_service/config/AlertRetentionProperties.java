@@ -0,0 +1,6 @@
+package com.samjenkins.budget_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.alert-retention")
+public record AlertRetentionProperties(boolean enabled, int retentionDays, int batchSize, int partitionsAhead) {}
@@ -1,5 +1,6 @@
 package com.samjenkins.budget_service.config;
 
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
@@ -8,10 +9,14 @@ public final class CurrentUser {
     private CurrentUser() {}
 
     public static UUID userId() {
+        return findUserId().orElseThrow(() -> new IllegalStateException("No JWT authentication present"));
+    }
+
+    public static Optional<UUID> findUserId() {
         var auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth instanceof JwtAuthenticationToken jwtAuth) {
-            return UUID.fromString(jwtAuth.getToken().getSubject());
+            return Optional.of(UUID.fromString(jwtAuth.getToken().getSubject()));
         }
-        throw new IllegalStateException("No JWT authentication present");
+        return Optional.empty();
     }
 }
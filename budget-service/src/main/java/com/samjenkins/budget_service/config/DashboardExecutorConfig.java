@@ -0,0 +1,29 @@
+package com.samjenkins.budget_service.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+@Configuration
+public class DashboardExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+        @Value("${app.dashboard.executor.pool-size:8}") int poolSize,
+        @Value("${app.dashboard.executor.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        // Parts query on pool threads; carry the caller's authentication so replica routing sees the user.
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        // A saturated pool degrades to running the part on the request thread instead of failing the request.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.samjenkins.budget_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica pool when
+ * {@code app.datasource.replica.url} is set. The lazy proxy defers choosing a pool until the first
+ * statement, by which point the transaction manager has marked the connection read-only.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+        ReplicaDataSourceProperties properties,
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource
+    ) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(properties.url());
+        replica.setUsername(properties.username());
+        replica.setPassword(properties.password());
+        replica.setSchema(primaryDataSource.getSchema());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+        RecentWriteTracker recentWriteTracker
+    ) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(
+            new ReadYourWritesRoutingDataSource(primaryDataSource, replicaDataSource, recentWriteTracker)
+        );
+        return proxy;
+    }
+}
@@ -0,0 +1,245 @@
+package com.samjenkins.budget_service.config;
+
+import com.samjenkins.budget_service.dto.ErrorResponse;
+import com.samjenkins.budget_service.repository.IdempotencyRecord;
+import com.samjenkins.budget_service.service.IdempotencyService;
+import com.samjenkins.budget_service.service.IdempotencyService.Outcome;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Makes mutating requests that carry an {@code Idempotency-Key} header safe to retry: the first response
+ * (status, content type, ETag, Location and body) is stored and replayed for later requests with the same
+ * key and the same method, path and body. Other response headers are not replayed. 5xx responses and
+ * unhandled failures release the key so the client can retry.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties properties;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        UUID userId = CurrentUser.findUserId().orElse(null);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // The body is buffered to hash it, so cap it; a chunked body without Content-Length is cut off on read.
+        long maxBodyBytes = properties.maxBodySize().toBytes();
+        CachedBodyRequest cachedRequest = request.getContentLengthLong() > maxBodyBytes
+            ? null
+            : CachedBodyRequest.read(request, maxBodyBytes);
+        if (cachedRequest == null) {
+            writeError(response, HttpStatus.CONTENT_TOO_LARGE, "Request body is too large for an Idempotency-Key request");
+            return;
+        }
+        String requestHash = hash(cachedRequest);
+
+        switch (idempotencyService.begin(userId, key, requestHash)) {
+            case Outcome.Replay replay -> writeReplay(response, replay.response());
+            case Outcome.Mismatch mismatch -> writeError(
+                response,
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency-Key was already used for a different request"
+            );
+            case Outcome.InProgress inProgress -> writeError(
+                response,
+                HttpStatus.CONFLICT,
+                "A request with this Idempotency-Key is still in progress"
+            );
+            case Outcome.Proceed proceed -> proceed(
+                cachedRequest, response, filterChain, userId, key, proceed.claimToken(), requestHash);
+        }
+    }
+
+    private void proceed(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain,
+        UUID userId,
+        String key,
+        UUID claimToken,
+        String requestHash
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 500) {
+                idempotencyService.complete(userId, key, claimToken, new IdempotencyRecord(
+                    requestHash,
+                    wrapper.getStatus(),
+                    wrapper.getContentType(),
+                    wrapper.getHeader(HttpHeaders.ETAG),
+                    wrapper.getHeader(HttpHeaders.LOCATION),
+                    wrapper.getContentAsByteArray()
+                ));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(userId, key, claimToken);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeReplay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        if (record.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, record.etag());
+        }
+        if (record.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, record.location());
+        }
+        if (record.body() != null && record.body().length > 0) {
+            response.setContentLength(record.body().length);
+            response.getOutputStream().write(record.body());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        jsonMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+            OffsetDateTime.now(),
+            MDC.get("requestId"),
+            status.value(),
+            status.getReasonPhrase(),
+            message,
+            List.of()
+        ));
+    }
+
+    private static String hash(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** Buffers the body up front so it can be hashed and still be read by the handler. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /** Returns null when the body is longer than {@code maxBytes}. */
+        static CachedBodyRequest read(HttpServletRequest request, long maxBytes) throws IOException {
+            byte[] body = request.getInputStream().readNBytes(Math.toIntExact(maxBytes + 1));
+            return body.length > maxBytes ? null : new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The body is already buffered, so everything is available and read straight away.
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
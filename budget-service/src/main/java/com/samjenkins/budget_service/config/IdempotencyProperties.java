@@ -0,0 +1,14 @@
+package com.samjenkins.budget_service.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+    Duration ttl,
+    Duration inProgressLease,
+    long cacheMaxEntries,
+    int batchSize,
+    DataSize maxBodySize
+) {}
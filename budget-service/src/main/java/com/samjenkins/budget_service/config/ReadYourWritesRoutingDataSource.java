@@ -0,0 +1,32 @@
+package com.samjenkins.budget_service.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Read-only connection source: the replica, unless the current user wrote within the read-your-writes
+ * window, in which case the primary.
+ */
+class ReadYourWritesRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    ReadYourWritesRoutingDataSource(DataSource primary, DataSource replica, RecentWriteTracker recentWriteTracker) {
+        this.recentWriteTracker = recentWriteTracker;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CurrentUser.findUserId()
+            .filter(recentWriteTracker::isRecentWriter)
+            .map(userId -> PRIMARY)
+            .orElse(REPLICA);
+    }
+}
@@ -0,0 +1,82 @@
+package com.samjenkins.budget_service.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Writes are recorded locally and returned to the client as a short-lived cookie holding the write time.
+ * Reads that carry the cookie record that time on whichever instance serves them, so read-your-writes
+ * routing works across instances. Clients that drop cookies only get the same-instance guarantee.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentWriteFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "last_write";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RecentWriteTracker recentWriteTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        UUID userId = CurrentUser.findUserId().orElse(null);
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (READ_METHODS.contains(request.getMethod())) {
+            reportedWrite(request).ifPresent(writtenAt -> recentWriteTracker.recordWrite(userId, writtenAt));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Recorded on both sides so the window covers the whole write, however long it takes to commit. The
+        // cookie has to go out before the body commits the response, so it carries the start time.
+        Instant writtenAt = recentWriteTracker.recordWrite(userId);
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, Long.toString(writtenAt.toEpochMilli()))
+            .httpOnly(true)
+            .secure(request.isSecure())
+            .path("/")
+            .sameSite("Lax")
+            .maxAge(recentWriteTracker.window())
+            .build()
+            .toString());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recentWriteTracker.recordWrite(userId);
+        }
+    }
+
+    private Optional<Instant> reportedWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Optional.of(Instant.ofEpochMilli(Long.parseLong(cookie.getValue())));
+                } catch (NumberFormatException ex) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
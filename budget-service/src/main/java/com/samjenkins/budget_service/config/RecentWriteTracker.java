@@ -0,0 +1,66 @@
+package com.samjenkins.budget_service.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers when users last wrote so their reads stay on the primary until the replica has had time to
+ * catch up. Writes handled by another instance arrive through the cookie {@link RecentWriteFilter} sets,
+ * so the window holds behind a load balancer as long as the client echoes it.
+ */
+@Component
+public class RecentWriteTracker {
+
+    private final Cache<UUID, Instant> lastWrites;
+    private final Duration window;
+    private final Clock clock;
+
+    public RecentWriteTracker(ReplicaDataSourceProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    RecentWriteTracker(ReplicaDataSourceProperties properties, Clock clock) {
+        this.window = properties.readYourWritesWindow();
+        this.clock = clock;
+        this.lastWrites = Caffeine.newBuilder()
+            .maximumSize(properties.recentWritersMaxEntries())
+            .expireAfterWrite(window)
+            .build();
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    public Instant recordWrite(UUID userId) {
+        Instant now = clock.instant();
+        lastWrites.put(userId, now);
+        return now;
+    }
+
+    /**
+     * Records a write another instance reported. Times outside the window, including ones in the future,
+     * are ignored, so a tampered cookie can at most pin one window of reads to the primary.
+     */
+    public void recordWrite(UUID userId, Instant writtenAt) {
+        if (!isWithinWindow(writtenAt)) {
+            return;
+        }
+        lastWrites.asMap().merge(userId, writtenAt, (existing, reported) -> existing.isAfter(reported) ? existing : reported);
+    }
+
+    public boolean isRecentWriter(UUID userId) {
+        Instant writtenAt = lastWrites.getIfPresent(userId);
+        return writtenAt != null && isWithinWindow(writtenAt);
+    }
+
+    private boolean isWithinWindow(Instant writtenAt) {
+        Instant now = clock.instant();
+        return !writtenAt.isAfter(now) && writtenAt.isAfter(now.minus(window));
+    }
+}
@@ -0,0 +1,23 @@
+package com.samjenkins.budget_service.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+    String url,
+    String username,
+    String password,
+    Duration readYourWritesWindow,
+    Long recentWritersMaxEntries
+) {
+
+    public ReplicaDataSourceProperties {
+        if (readYourWritesWindow == null) {
+            readYourWritesWindow = Duration.ofSeconds(5);
+        }
+        if (recentWritersMaxEntries == null) {
+            recentWritersMaxEntries = 100_000L;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.samjenkins.budget_service.config;
 
+import com.samjenkins.budget_service.util.UuidV7;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,7 +21,7 @@ public class RequestIdFilter extends OncePerRequestFilter {
         throws ServletException, IOException {
         String requestId = request.getHeader(REQUEST_ID_HEADER);
         if (requestId == null || requestId.isBlank()) {
-            requestId = UUID.randomUUID().toString();
+            requestId = UuidV7.next().toString();
         }
 
         MDC.put(REQUEST_ID_MDC_KEY, requestId);
@@ -0,0 +1,10 @@
+package com.samjenkins.budget_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.rollover")
+/**
+ * @param leadDays how many days before a period ends its successor is created
+ * @param catchUpDays how far back a missed successor period is still created; older chains are logged and left
+ */
+public record RolloverProperties(boolean enabled, int batchSize, int leadDays, int catchUpDays) {}
@@ -20,6 +20,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -30,6 +31,9 @@ public class SecurityConfig {
     @Value("${app.security.public-docs-enabled:false}")
     private boolean publicDocsEnabled;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -39,6 +43,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> {
                 auth.requestMatchers("/error").permitAll();
                 auth.requestMatchers("/actuator/health", "/actuator/info").permitAll();
+                auth.requestMatchers(prometheusOnManagementPort()).permitAll();
                 if (publicDocsEnabled) {
                     auth.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll();
                 }
@@ -49,6 +54,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Prometheus scrapes are only let through on the management port, which is not published
+     * alongside the public API. Without a separate management port the endpoint needs a token.
+     */
+    private RequestMatcher prometheusOnManagementPort() {
+        return request -> managementPort > 0
+            && request.getLocalPort() == managementPort
+            && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
     @Bean
     public JwtDecoder jwtDecoder(JwtProperties props) {
         SecretKey key = new SecretKeySpec(props.secret().getBytes(StandardCharsets.UTF_8), "HmacSHA256");
@@ -73,8 +88,8 @@ public class SecurityConfig {
         CorsConfiguration cors = new CorsConfiguration();
         cors.setAllowedOrigins(List.of("http://localhost:5173"));
         cors.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        cors.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Request-Id"));
-        cors.setExposedHeaders(List.of("X-Request-Id"));
+        cors.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Request-Id", "If-None-Match", "Idempotency-Key"));
+        cors.setExposedHeaders(List.of("X-Request-Id", "ETag", "Idempotent-Replayed"));
         cors.setAllowCredentials(true);
         cors.setMaxAge(3600L);
 
@@ -2,25 +2,33 @@ package com.samjenkins.budget_service.controller;
 
 import com.samjenkins.budget_service.config.CurrentUser;
 import com.samjenkins.budget_service.dto.AlertResponse;
+import com.samjenkins.budget_service.dto.MarkAlertsReadRequest;
+import com.samjenkins.budget_service.dto.MarkAlertsReadResponse;
+import com.samjenkins.budget_service.dto.UnreadAlertCountResponse;
 import com.samjenkins.budget_service.service.AlertService;
+import com.samjenkins.budget_service.service.AlertStreamHub;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
-@RequestMapping("/api/alerts")
 @RequiredArgsConstructor
 public class AlertController {
 
     private final AlertService alertService;
+    private final AlertStreamHub alertStreamHub;
 
-    @GetMapping
+    @GetMapping("/api/alerts")
     public List<AlertResponse> list(
         @RequestParam(defaultValue = "false") boolean unreadOnly,
         @RequestParam(required = false) Integer limit
@@ -28,8 +36,23 @@ public class AlertController {
         return alertService.list(CurrentUser.userId(), unreadOnly, limit);
     }
 
-    @PatchMapping("/{alertId}/read")
+    @GetMapping("/api/alerts/unread-count")
+    public UnreadAlertCountResponse unreadCount() {
+        return new UnreadAlertCountResponse(alertService.countUnread(CurrentUser.userId()));
+    }
+
+    @GetMapping(path = "/api/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return alertStreamHub.subscribe(CurrentUser.userId());
+    }
+
+    @PatchMapping("/api/alerts/{alertId}/read")
     public AlertResponse markRead(@PathVariable UUID alertId) {
         return alertService.markRead(CurrentUser.userId(), alertId);
     }
+
+    @PostMapping("/api/alerts:markRead")
+    public MarkAlertsReadResponse markRead(@Valid @RequestBody MarkAlertsReadRequest request) {
+        return alertService.markRead(CurrentUser.userId(), request);
+    }
 }
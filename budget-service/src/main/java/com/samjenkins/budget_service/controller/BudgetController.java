@@ -9,12 +9,19 @@ import com.samjenkins.budget_service.dto.UpsertBudgetCategoryLimitRequest;
 import com.samjenkins.budget_service.entity.BudgetPeriodType;
 import com.samjenkins.budget_service.entity.BudgetStatus;
 import com.samjenkins.budget_service.service.BudgetService;
+import com.samjenkins.budget_service.service.BudgetVersionService;
+import com.samjenkins.budget_service.service.BudgetVersionService.ReadableBudget;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,6 +34,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/budgets")
@@ -34,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final BudgetVersionService budgetVersionService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -42,18 +51,37 @@ public class BudgetController {
     }
 
     @GetMapping
-    public List<BudgetResponse> list(
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = BudgetResponse.class))
+        )
+    )
+    public ResponseEntity<byte[]> list(
         @RequestParam(required = false) BudgetPeriodType periodType,
         @RequestParam(required = false) BudgetStatus status,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo
     ) {
-        return budgetService.list(CurrentUser.userId(), periodType, status, startDateFrom, startDateTo);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(budgetService.listJson(CurrentUser.userId(), periodType, status, startDateFrom, startDateTo));
     }
 
     @GetMapping("/{budgetId}")
-    public BudgetResponse get(@PathVariable UUID budgetId) {
-        return budgetService.get(CurrentUser.userId(), budgetId);
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BudgetResponse.class))
+    )
+    public ResponseEntity<byte[]> get(@PathVariable UUID budgetId, WebRequest webRequest) {
+        ReadableBudget readable = budgetVersionService.readable(CurrentUser.userId(), budgetId);
+        if (webRequest.checkNotModified(readable.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(budgetService.getJson(readable.budget()));
     }
 
     @PatchMapping("/{budgetId}")
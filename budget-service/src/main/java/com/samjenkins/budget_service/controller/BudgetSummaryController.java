@@ -3,12 +3,20 @@ package com.samjenkins.budget_service.controller;
 import com.samjenkins.budget_service.config.CurrentUser;
 import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
 import com.samjenkins.budget_service.service.BudgetSummaryService;
+import com.samjenkins.budget_service.service.BudgetVersionService;
+import com.samjenkins.budget_service.service.BudgetVersionService.ReadableBudget;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/budgets")
@@ -16,9 +24,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class BudgetSummaryController {
 
     private final BudgetSummaryService budgetSummaryService;
+    private final BudgetVersionService budgetVersionService;
 
     @GetMapping("/{budgetId}/summary")
-    public BudgetSummaryResponse get(@PathVariable UUID budgetId) {
-        return budgetSummaryService.summarize(CurrentUser.userId(), budgetId);
+    @ApiResponse(
+        responseCode = "200",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = BudgetSummaryResponse.class)
+        )
+    )
+    public ResponseEntity<byte[]> get(@PathVariable UUID budgetId, WebRequest webRequest) {
+        ReadableBudget readable = budgetVersionService.readable(CurrentUser.userId(), budgetId);
+        if (webRequest.checkNotModified(readable.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(budgetSummaryService.summarizeJson(readable.budget()));
     }
 }
@@ -0,0 +1,37 @@
+package com.samjenkins.budget_service.controller;
+
+import com.samjenkins.budget_service.config.CurrentUser;
+import com.samjenkins.budget_service.dto.BudgetTimeseriesResponse;
+import com.samjenkins.budget_service.service.BudgetTimeseriesService;
+import com.samjenkins.budget_service.service.BudgetVersionService;
+import com.samjenkins.budget_service.service.BudgetVersionService.ReadableBudget;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/budgets")
+@RequiredArgsConstructor
+public class BudgetTimeseriesController {
+
+    private final BudgetTimeseriesService budgetTimeseriesService;
+    private final BudgetVersionService budgetVersionService;
+
+    @GetMapping("/{budgetId}/timeseries")
+    public BudgetTimeseriesResponse get(
+        @PathVariable UUID budgetId,
+        @RequestParam(required = false) UUID categoryId,
+        WebRequest webRequest
+    ) {
+        ReadableBudget readable = budgetVersionService.readable(CurrentUser.userId(), budgetId);
+        if (webRequest.checkNotModified(readable.etag())) {
+            return null;
+        }
+        return budgetTimeseriesService.daily(readable.budget(), categoryId);
+    }
+}
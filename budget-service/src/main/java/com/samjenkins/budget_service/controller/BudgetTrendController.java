@@ -0,0 +1,27 @@
+package com.samjenkins.budget_service.controller;
+
+import com.samjenkins.budget_service.config.CurrentUser;
+import com.samjenkins.budget_service.dto.CategoryTrendsResponse;
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import com.samjenkins.budget_service.service.BudgetTrendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/budgets")
+@RequiredArgsConstructor
+public class BudgetTrendController {
+
+    private final BudgetTrendService budgetTrendService;
+
+    @GetMapping("/trends")
+    public CategoryTrendsResponse categoryTrends(
+        @RequestParam(defaultValue = "MONTHLY") BudgetPeriodType periodType,
+        @RequestParam(required = false) Integer periods
+    ) {
+        return budgetTrendService.categoryTrends(CurrentUser.userId(), periodType, periods);
+    }
+}
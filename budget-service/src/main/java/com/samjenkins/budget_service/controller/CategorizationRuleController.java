@@ -0,0 +1,44 @@
+package com.samjenkins.budget_service.controller;
+
+import com.samjenkins.budget_service.config.CurrentUser;
+import com.samjenkins.budget_service.dto.CategorizationRuleResponse;
+import com.samjenkins.budget_service.dto.CreateCategorizationRuleRequest;
+import com.samjenkins.budget_service.service.CategorizationRuleService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/categorization-rules")
+@RequiredArgsConstructor
+public class CategorizationRuleController {
+
+    private final CategorizationRuleService categorizationRuleService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CategorizationRuleResponse create(@Valid @RequestBody CreateCategorizationRuleRequest request) {
+        return categorizationRuleService.create(CurrentUser.userId(), request);
+    }
+
+    @GetMapping
+    public List<CategorizationRuleResponse> list() {
+        return categorizationRuleService.list(CurrentUser.userId());
+    }
+
+    @DeleteMapping("/{ruleId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable UUID ruleId) {
+        categorizationRuleService.delete(CurrentUser.userId(), ruleId);
+    }
+}
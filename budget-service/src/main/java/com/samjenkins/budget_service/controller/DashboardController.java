@@ -0,0 +1,22 @@
+package com.samjenkins.budget_service.controller;
+
+import com.samjenkins.budget_service.config.CurrentUser;
+import com.samjenkins.budget_service.dto.DashboardResponse;
+import com.samjenkins.budget_service.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public DashboardResponse get() {
+        return dashboardService.load(CurrentUser.userId());
+    }
+}
@@ -1,9 +1,16 @@
 package com.samjenkins.budget_service.controller;
 
 import com.samjenkins.budget_service.config.CurrentUser;
+import com.samjenkins.budget_service.dto.BulkTransactionRequest;
+import com.samjenkins.budget_service.dto.BulkTransactionResponse;
 import com.samjenkins.budget_service.dto.CreateTransactionRequest;
+import com.samjenkins.budget_service.dto.ImportTransactionsRequest;
+import com.samjenkins.budget_service.dto.ImportTransactionsResponse;
 import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.dto.TransactionSearchResponse;
 import com.samjenkins.budget_service.dto.UpdateTransactionRequest;
+import com.samjenkins.budget_service.service.BudgetVersionService;
+import com.samjenkins.budget_service.service.BudgetVersionService.ReadableBudget;
 import com.samjenkins.budget_service.service.TxnService;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -21,12 +28,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 public class TxnController {
 
     private final TxnService txnService;
+    private final BudgetVersionService budgetVersionService;
 
     @PostMapping("/api/transactions")
     @ResponseStatus(HttpStatus.CREATED)
@@ -42,14 +51,46 @@ public class TxnController {
         return txnService.update(CurrentUser.userId(), transactionId, request);
     }
 
+    @GetMapping("/api/transactions/search")
+    public TransactionSearchResponse search(
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) Long minAmount,
+        @RequestParam(required = false) Long maxAmount,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return txnService.search(CurrentUser.userId(), q, minAmount, maxAmount, cursor, limit);
+    }
+
+    @PostMapping("/api/budgets/{budgetId}/transactions/import")
+    public ImportTransactionsResponse importTransactions(
+        @PathVariable UUID budgetId,
+        @Valid @RequestBody ImportTransactionsRequest request
+    ) {
+        return txnService.importTransactions(CurrentUser.userId(), budgetId, request);
+    }
+
+    @PostMapping("/api/budgets/{budgetId}/transactions:bulk")
+    public BulkTransactionResponse bulk(
+        @PathVariable UUID budgetId,
+        @Valid @RequestBody BulkTransactionRequest request
+    ) {
+        return txnService.bulk(CurrentUser.userId(), budgetId, request);
+    }
+
     @GetMapping("/api/budgets/{budgetId}/transactions")
     public List<TransactionResponse> listByBudget(
         @PathVariable UUID budgetId,
         @RequestParam(required = false) UUID categoryId,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate minDate,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate maxDate,
-        @RequestParam(required = false) Integer limit
+        @RequestParam(required = false) Integer limit,
+        WebRequest webRequest
     ) {
-        return txnService.listByBudget(CurrentUser.userId(), budgetId, categoryId, minDate, maxDate, limit);
+        ReadableBudget readable = budgetVersionService.readable(CurrentUser.userId(), budgetId);
+        if (webRequest.checkNotModified(readable.etag())) {
+            return null;
+        }
+        return txnService.listByBudget(readable.budget(), categoryId, minDate, maxDate, limit);
     }
 }
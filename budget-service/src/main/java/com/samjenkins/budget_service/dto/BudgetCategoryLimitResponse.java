@@ -1,6 +1,7 @@
 package com.samjenkins.budget_service.dto;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public record BudgetCategoryLimitResponse(
@@ -9,6 +10,7 @@ public record BudgetCategoryLimitResponse(
     String categoryName,
     long limitCents,
     String colorHex,
+    List<Integer> alertThresholds,
     long spentCents,
     long remainingCents,
     Double utilizationPct,
@@ -0,0 +1,5 @@
+package com.samjenkins.budget_service.dto;
+
+import java.util.UUID;
+
+public record BudgetChangedEvent(UUID budgetId) {}
@@ -16,6 +16,7 @@ public record BudgetResponse(
     String currency,
     BudgetStatus status,
     long totalLimitCents,
+    List<Integer> alertThresholds,
     OffsetDateTime createdAt,
     OffsetDateTime updatedAt,
     List<BudgetCategoryLimitResponse> categoryLimits
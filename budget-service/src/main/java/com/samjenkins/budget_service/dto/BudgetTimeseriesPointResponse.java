@@ -0,0 +1,11 @@
+package com.samjenkins.budget_service.dto;
+
+import java.time.LocalDate;
+
+public record BudgetTimeseriesPointResponse(
+    LocalDate day,
+    long spentCents,
+    long incomeCents,
+    long cumulativeSpentCents,
+    long cumulativeIncomeCents
+) {}
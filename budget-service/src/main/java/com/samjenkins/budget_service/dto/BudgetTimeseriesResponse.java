@@ -0,0 +1,13 @@
+package com.samjenkins.budget_service.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record BudgetTimeseriesResponse(
+    UUID budgetId,
+    UUID categoryId,
+    LocalDate startDate,
+    LocalDate endDate,
+    List<BudgetTimeseriesPointResponse> points
+) {}
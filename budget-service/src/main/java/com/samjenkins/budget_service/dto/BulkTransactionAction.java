@@ -0,0 +1,7 @@
+package com.samjenkins.budget_service.dto;
+
+public enum BulkTransactionAction {
+    RECATEGORIZE,
+    MOVE,
+    DELETE
+}
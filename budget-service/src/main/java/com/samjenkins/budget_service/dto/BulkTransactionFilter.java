@@ -0,0 +1,10 @@
+package com.samjenkins.budget_service.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BulkTransactionFilter(
+    UUID categoryId,
+    LocalDate minDate,
+    LocalDate maxDate
+) {}
@@ -0,0 +1,14 @@
+package com.samjenkins.budget_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record BulkTransactionRequest(
+    @NotNull BulkTransactionAction action,
+    @Size(max = 10000) List<@NotNull UUID> transactionIds,
+    BulkTransactionFilter filter,
+    UUID categoryId,
+    UUID targetBudgetId
+) {}
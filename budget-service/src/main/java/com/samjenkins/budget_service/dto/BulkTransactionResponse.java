@@ -0,0 +1,6 @@
+package com.samjenkins.budget_service.dto;
+
+public record BulkTransactionResponse(
+    BulkTransactionAction action,
+    int affected
+) {}
@@ -0,0 +1,16 @@
+package com.samjenkins.budget_service.dto;
+
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record CategorizationRuleResponse(
+    UUID id,
+    UUID categoryId,
+    CategorizationMatchType matchType,
+    String pattern,
+    Long minAmountCents,
+    Long maxAmountCents,
+    int priority,
+    OffsetDateTime createdAt
+) {}
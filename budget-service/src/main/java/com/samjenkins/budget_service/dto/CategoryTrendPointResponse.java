@@ -0,0 +1,13 @@
+package com.samjenkins.budget_service.dto;
+
+import java.time.LocalDate;
+
+public record CategoryTrendPointResponse(
+    LocalDate startDate,
+    LocalDate endDate,
+    boolean closed,
+    long spentCents,
+    long averageCents,
+    long trailingAverageCents,
+    Long deltaCents
+) {}
@@ -0,0 +1,10 @@
+package com.samjenkins.budget_service.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CategoryTrendResponse(
+    UUID categoryId,
+    String categoryName,
+    List<CategoryTrendPointResponse> points
+) {}
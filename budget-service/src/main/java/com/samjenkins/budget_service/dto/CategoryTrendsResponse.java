@@ -0,0 +1,9 @@
+package com.samjenkins.budget_service.dto;
+
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import java.util.List;
+
+public record CategoryTrendsResponse(
+    BudgetPeriodType periodType,
+    List<CategoryTrendResponse> categories
+) {}
@@ -1,12 +1,17 @@
 package com.samjenkins.budget_service.dto;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import java.util.UUID;
 
 public record CreateBudgetCategoryLimitRequest(
     @NotNull UUID categoryId,
     @Positive long limitCents,
-    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "colorHex must be in #RRGGBB format") String colorHex
+    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "colorHex must be in #RRGGBB format") String colorHex,
+    @Size(max = 10) List<@NotNull @Min(1) @Max(100) Integer> alertThresholds
 ) {}
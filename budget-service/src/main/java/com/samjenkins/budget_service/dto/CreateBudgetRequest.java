@@ -2,6 +2,8 @@ package com.samjenkins.budget_service.dto;
 
 import com.samjenkins.budget_service.entity.BudgetPeriodType;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -14,5 +16,6 @@ public record CreateBudgetRequest(
     @NotNull BudgetPeriodType periodType,
     @NotNull LocalDate startDate,
     @Pattern(regexp = "^[A-Za-z]{3}$", message = "currency must be a 3-letter code") String currency,
-    @Valid List<CreateBudgetCategoryLimitRequest> categoryLimits
+    @Valid List<CreateBudgetCategoryLimitRequest> categoryLimits,
+    @Size(max = 10) List<@NotNull @Min(1) @Max(100) Integer> alertThresholds
 ) {}
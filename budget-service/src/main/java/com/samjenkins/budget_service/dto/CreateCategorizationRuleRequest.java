@@ -0,0 +1,16 @@
+package com.samjenkins.budget_service.dto;
+
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+public record CreateCategorizationRuleRequest(
+    @NotNull UUID categoryId,
+    @NotNull CategorizationMatchType matchType,
+    @NotBlank @Size(max = 200) String pattern,
+    Long minAmountCents,
+    Long maxAmountCents,
+    Integer priority
+) {}
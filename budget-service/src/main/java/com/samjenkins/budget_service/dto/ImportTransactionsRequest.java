@@ -0,0 +1,13 @@
+package com.samjenkins.budget_service.dto;
+
+import com.samjenkins.budget_service.entity.TransactionSource;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ImportTransactionsRequest(
+    TransactionSource source,
+    @NotEmpty @Size(max = 10000) List<@NotNull @Valid ImportTransactionRow> transactions
+) {}
@@ -0,0 +1,7 @@
+package com.samjenkins.budget_service.dto;
+
+public record ImportTransactionsResponse(
+    int received,
+    int imported,
+    int skippedDuplicates
+) {}
@@ -0,0 +1,11 @@
+package com.samjenkins.budget_service.dto;
+
+import jakarta.validation.constraints.Size;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record MarkAlertsReadRequest(
+    @Size(min = 1, max = 500) List<UUID> alertIds,
+    OffsetDateTime before
+) {}
@@ -0,0 +1,3 @@
+package com.samjenkins.budget_service.dto;
+
+public record MarkAlertsReadResponse(int markedCount) {}
@@ -15,5 +15,6 @@ public record TransactionResponse(
     LocalDate transactionDate,
     TransactionSource source,
     OffsetDateTime createdAt,
-    OffsetDateTime updatedAt
+    OffsetDateTime updatedAt,
+    long version
 ) {}
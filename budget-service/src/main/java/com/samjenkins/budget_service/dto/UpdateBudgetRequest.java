@@ -1,9 +1,14 @@
 package com.samjenkins.budget_service.dto;
 
 import com.samjenkins.budget_service.entity.BudgetStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 
 public record UpdateBudgetRequest(
     @Size(min = 1, max = 150) String name,
-    BudgetStatus status
+    BudgetStatus status,
+    @Size(max = 10) List<@NotNull @Min(1) @Max(100) Integer> alertThresholds
 ) {}
@@ -12,5 +12,6 @@ public record UpdateTransactionRequest(
     @Size(max = 1000) String description,
     Long amountCents,
     LocalDate transactionDate,
-    TransactionSource source
+    TransactionSource source,
+    Long version
 ) {}
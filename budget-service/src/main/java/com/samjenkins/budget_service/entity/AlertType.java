@@ -3,5 +3,7 @@ package com.samjenkins.budget_service.entity;
 public enum AlertType {
     BUDGET_80,
     BUDGET_100,
+    BUDGET_THRESHOLD,
+    BUDGET_PROJECTED,
     SYSTEM
 }
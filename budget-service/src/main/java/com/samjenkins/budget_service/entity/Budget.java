@@ -8,12 +8,15 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @Setter
@@ -55,4 +58,14 @@ public class Budget {
 
     @Column(name = "updated_at", nullable = false, insertable = false)
     private OffsetDateTime updatedAt;
+
+    @Column(name = "rolled_over_from_id")
+    private UUID rolledOverFromId;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long version;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "alert_thresholds", nullable = false)
+    private List<Integer> alertThresholds;
 }
@@ -0,0 +1,7 @@
+package com.samjenkins.budget_service.entity;
+
+public enum CategorizationMatchType {
+    CONTAINS,
+    PREFIX,
+    REGEX
+}
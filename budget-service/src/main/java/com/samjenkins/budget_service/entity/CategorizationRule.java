@@ -0,0 +1,53 @@
+package com.samjenkins.budget_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "categorization_rules")
+public class CategorizationRule {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "match_type", nullable = false)
+    private CategorizationMatchType matchType;
+
+    @Column(nullable = false)
+    private String pattern;
+
+    @Column(name = "min_amount_cents")
+    private Long minAmountCents;
+
+    @Column(name = "max_amount_cents")
+    private Long maxAmountCents;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
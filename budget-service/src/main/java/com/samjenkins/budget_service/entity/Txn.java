@@ -56,4 +56,7 @@ public class Txn {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TransactionSource source;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long version;
 }
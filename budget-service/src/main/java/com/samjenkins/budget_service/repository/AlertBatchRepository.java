@@ -0,0 +1,22 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.Alert;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AlertBatchRepository {
+
+    /**
+     * Inserts one alert per recipient and crossing in a single statement, skipping any
+     * (recipient, category, threshold) that was already alerted for the budget.
+     * Returns the alerts that were actually created.
+     */
+    List<Alert> insertThresholdAlerts(
+        UUID budgetId,
+        LocalDate month,
+        Collection<UUID> recipientUserIds,
+        List<ThresholdCrossing> crossings
+    );
+}
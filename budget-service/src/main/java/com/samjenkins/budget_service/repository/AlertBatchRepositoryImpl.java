@@ -0,0 +1,76 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.Alert;
+import com.samjenkins.budget_service.entity.AlertType;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class AlertBatchRepositoryImpl implements AlertBatchRepository {
+
+    private static final String INSERT_THRESHOLD_ALERTS = """
+        with candidates as (
+            select r.user_id, c.category_id, c.type, c.threshold_pct, c.message
+            from unnest(?::uuid[]) as r(user_id)
+            cross join unnest(?::uuid[], ?::text[], ?::integer[], ?::text[])
+                as c(category_id, type, threshold_pct, message)
+        ),
+        claimed as (
+            insert into alert_threshold_marks (user_id, budget_id, category_id, type, threshold_pct)
+            select user_id, ?, category_id, type, threshold_pct
+            from candidates
+            on conflict do nothing
+            returning user_id, category_id, type, threshold_pct
+        )
+        insert into alerts (id, user_id, type, message, budget_id, category_id, month, threshold_pct)
+        select uuid_generate_v7(), c.user_id, c.type, c.message, ?, c.category_id, ?, c.threshold_pct
+        from claimed k
+        join candidates c
+          on c.user_id = k.user_id
+         and c.category_id = k.category_id
+         and c.type = k.type
+         and c.threshold_pct = k.threshold_pct
+        returning id, user_id, type, message, budget_id, category_id, month, threshold_pct, created_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Alert> insertThresholdAlerts(
+        UUID budgetId,
+        LocalDate month,
+        Collection<UUID> recipientUserIds,
+        List<ThresholdCrossing> crossings
+    ) {
+        if (recipientUserIds.isEmpty() || crossings.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(INSERT_THRESHOLD_ALERTS, ps -> {
+            var connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("uuid", recipientUserIds.toArray()));
+            ps.setArray(2, connection.createArrayOf("uuid", crossings.stream().map(ThresholdCrossing::categoryId).toArray()));
+            ps.setArray(3, connection.createArrayOf("text", crossings.stream().map(c -> c.type().name()).toArray()));
+            ps.setArray(4, connection.createArrayOf("integer", crossings.stream().map(ThresholdCrossing::thresholdPct).toArray()));
+            ps.setArray(5, connection.createArrayOf("text", crossings.stream().map(ThresholdCrossing::message).toArray()));
+            ps.setObject(6, budgetId);
+            ps.setObject(7, budgetId);
+            ps.setObject(8, month);
+        }, (rs, rowNum) -> Alert.builder()
+            .id(rs.getObject("id", UUID.class))
+            .userId(rs.getObject("user_id", UUID.class))
+            .type(AlertType.valueOf(rs.getString("type")))
+            .message(rs.getString("message"))
+            .budgetId(rs.getObject("budget_id", UUID.class))
+            .categoryId(rs.getObject("category_id", UUID.class))
+            .month(rs.getObject("month", LocalDate.class))
+            .thresholdPct(rs.getInt("threshold_pct"))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+            .build());
+    }
+}
@@ -0,0 +1,106 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class AlertPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("alerts_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the month partition if it is missing. Rows that already landed in the default partition for
+     * that month are moved into it first, since attaching a range the default partition still holds fails.
+     * A transaction-scoped advisory lock serializes replicas running this at startup, so the second one sees
+     * the table the first created instead of failing with "relation already exists".
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("""
+            do $$
+            begin
+                perform pg_advisory_xact_lock(hashtext('alerts_partitions'));
+                if to_regclass('%1$s') is null then
+                    create table %1$s (like alerts including defaults including constraints);
+                    insert into %1$s
+                    select * from alerts_default where created_at >= '%2$s' and created_at < '%3$s';
+                    delete from alerts_default where created_at >= '%2$s' and created_at < '%3$s';
+                    alter table alerts attach partition %1$s for values from ('%2$s') to ('%3$s');
+                end if;
+            end $$
+            """.formatted(partitionName(month), lowerBound(month), lowerBound(month.plusMonths(1))));
+    }
+
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                select c.relname
+                from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                join pg_namespace n on n.oid = p.relnamespace
+                where p.relname = 'alerts'
+                  and n.nspname = current_schema()
+                """, String.class).stream()
+            .map(PARTITION_NAME::matcher)
+            .filter(Matcher::matches)
+            .map(m -> YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))))
+            .sorted()
+            .toList();
+    }
+
+    public boolean isPartitionEmpty(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "select not exists (select 1 from " + partitionName(month) + ")",
+            Boolean.class
+        ));
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("drop table if exists " + partitionName(month));
+    }
+
+    /**
+     * Moves up to one batch of read alerts created before the cutoff into alert_history.
+     * Rows are claimed with SKIP LOCKED, so concurrent replicas archive disjoint batches.
+     */
+    public int archiveReadAlertsCreatedBefore(OffsetDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+            with candidates as (
+                select id, created_at
+                from alerts
+                where read_at is not null
+                  and created_at < ?
+                order by created_at
+                limit ?
+                for update skip locked
+            ),
+            moved as (
+                delete from alerts a
+                using candidates c
+                where a.id = c.id and a.created_at = c.created_at
+                returning a.id, a.user_id, a.type, a.budget_id, a.category_id, a.threshold_pct, a.created_at, a.read_at
+            )
+            insert into alert_history (id, user_id, type, budget_id, category_id, threshold_pct, created_at, read_at)
+            select id, user_id, type, budget_id, category_id, threshold_pct, created_at, read_at
+            from moved
+            on conflict (id) do nothing
+            """, cutoff, batchSize);
+    }
+
+    private String partitionName(YearMonth month) {
+        return "alerts_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private String lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+}
@@ -1,34 +1,65 @@
 package com.samjenkins.budget_service.repository;
 
+import com.samjenkins.budget_service.dto.AlertResponse;
 import com.samjenkins.budget_service.entity.Alert;
-import com.samjenkins.budget_service.entity.AlertType;
-import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AlertRepository extends JpaRepository<Alert, UUID> {
-    boolean existsByUserIdAndTypeAndCategoryIdAndMonthAndThresholdPct(
-        UUID userId,
-        AlertType type,
-        UUID categoryId,
-        LocalDate month,
-        Integer thresholdPct
-    );
+public interface AlertRepository extends JpaRepository<Alert, UUID>, AlertBatchRepository {
+    @Query("""
+        select new com.samjenkins.budget_service.dto.AlertResponse(a.id, a.type, a.message, a.createdAt, a.readAt)
+        from Alert a
+        where a.userId = :userId
+        order by a.createdAt desc
+        """)
+    List<AlertResponse> findResponsesByUserId(@Param("userId") UUID userId, Pageable pageable);
 
-    boolean existsByUserIdAndTypeAndBudgetIdAndCategoryIdAndThresholdPct(
-        UUID userId,
-        AlertType type,
-        UUID budgetId,
-        UUID categoryId,
-        Integer thresholdPct
-    );
+    @Query("""
+        select new com.samjenkins.budget_service.dto.AlertResponse(a.id, a.type, a.message, a.createdAt, a.readAt)
+        from Alert a
+        where a.userId = :userId
+          and a.readAt is null
+        order by a.createdAt desc
+        """)
+    List<AlertResponse> findUnreadResponsesByUserId(@Param("userId") UUID userId, Pageable pageable);
 
-    List<Alert> findAllByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+    Optional<Alert> findByIdAndUserId(UUID id, UUID userId);
 
-    List<Alert> findAllByUserIdAndReadAtIsNullOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+    long countByUserIdAndReadAtIsNull(UUID userId);
 
-    Optional<Alert> findByIdAndUserId(UUID id, UUID userId);
+    @Modifying
+    @Query("""
+        update Alert a
+        set a.readAt = :readAt
+        where a.userId = :userId
+          and a.readAt is null
+          and a.id in :alertIds
+        """)
+    int markReadByIds(
+        @Param("userId") UUID userId,
+        @Param("alertIds") Collection<UUID> alertIds,
+        @Param("readAt") OffsetDateTime readAt
+    );
+
+    @Modifying
+    @Query("""
+        update Alert a
+        set a.readAt = :readAt
+        where a.userId = :userId
+          and a.readAt is null
+          and a.createdAt < :before
+        """)
+    int markReadCreatedBefore(
+        @Param("userId") UUID userId,
+        @Param("before") OffsetDateTime before,
+        @Param("readAt") OffsetDateTime readAt
+    );
 }
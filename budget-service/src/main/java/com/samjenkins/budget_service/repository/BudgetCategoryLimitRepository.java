@@ -1,6 +1,7 @@
 package com.samjenkins.budget_service.repository;
 
 import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface BudgetCategoryLimitRepository extends JpaRepository<BudgetCategoryLimit, UUID> {
     List<BudgetCategoryLimit> findAllByBudgetIdOrderByCreatedAtAsc(UUID budgetId);
 
+    List<BudgetCategoryLimit> findAllByBudgetIdInOrderByCreatedAtAsc(Collection<UUID> budgetIds);
+
     Optional<BudgetCategoryLimit> findByBudgetIdAndCategoryId(UUID budgetId, UUID categoryId);
 
     long deleteByBudgetIdAndCategoryId(UUID budgetId, UUID categoryId);
@@ -1,18 +1,32 @@
 package com.samjenkins.budget_service.repository;
 
+import com.samjenkins.budget_service.dto.BudgetInviteResponse;
 import com.samjenkins.budget_service.entity.BudgetInvite;
 import com.samjenkins.budget_service.entity.BudgetInviteStatus;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BudgetInviteRepository extends JpaRepository<BudgetInvite, UUID> {
     Optional<BudgetInvite> findByToken(UUID token);
 
     Optional<BudgetInvite> findByIdAndBudgetId(UUID id, UUID budgetId);
 
-    List<BudgetInvite> findAllByBudgetIdOrderByCreatedAtDesc(UUID budgetId);
-
-    List<BudgetInvite> findAllByBudgetIdAndStatusOrderByCreatedAtDesc(UUID budgetId, BudgetInviteStatus status);
+    @Query("""
+        select new com.samjenkins.budget_service.dto.BudgetInviteResponse(
+            i.id, i.budgetId, i.token, cast(i.role as String), cast(i.status as String),
+            i.invitedByUserId, i.acceptedByUserId, i.createdAt, i.expiresAt, i.acceptedAt
+        )
+        from BudgetInvite i
+        where i.budgetId = :budgetId
+          and (:status is null or i.status = :status)
+        order by i.createdAt desc
+        """)
+    List<BudgetInviteResponse> findResponsesByBudgetId(
+        @Param("budgetId") UUID budgetId,
+        @Param("status") BudgetInviteStatus status
+    );
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,6 +28,29 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
         """)
     List<Budget> findAllAccessibleByUserIdOrderByStartDateDesc(@Param("userId") UUID userId);
 
+    @Query("""
+        select b
+        from Budget b
+        where b.status = :status
+          and (
+                b.ownerUserId = :userId
+                or exists (
+                    select 1
+                    from BudgetMember m
+                    where m.budgetId = b.id and m.userId = :userId
+                )
+          )
+        order by b.startDate desc
+        """)
+    List<Budget> findAllAccessibleByUserIdAndStatusOrderByStartDateDesc(
+        @Param("userId") UUID userId,
+        @Param("status") BudgetStatus status
+    );
+
+    @Modifying
+    @Query("update Budget b set b.version = b.version + 1 where b.id = :budgetId")
+    int incrementVersion(@Param("budgetId") UUID budgetId);
+
     List<Budget> findAllByOwnerUserIdOrderByStartDateDesc(UUID ownerUserId);
 
     List<Budget> findAllByOwnerUserIdAndStatusOrderByStartDateDesc(UUID ownerUserId, BudgetStatus status);
@@ -49,4 +73,114 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
         LocalDate endDate,
         BudgetStatus status
     );
+
+    @Query(value = """
+        with claimed as (
+            select b.id,
+                   b.owner_user_id,
+                   b.name,
+                   b.period_type,
+                   b.currency,
+                   b.alert_thresholds,
+                   n.next_start,
+                   n.next_end
+            from budget_plans b
+            cross join lateral (
+                select b.end_date + 1 as next_start,
+                       case
+                           when b.period_type = 'MONTHLY'
+                               then cast(b.end_date + 1 + interval '1 month' - interval '1 day' as date)
+                           else b.end_date + 7
+                       end as next_end
+            ) n
+            where b.status = 'ACTIVE'
+              and n.next_start <= :through
+              and n.next_end >= :catchUpFrom
+              and not exists (
+                    select 1
+                    from budget_plans r
+                    where r.rolled_over_from_id = b.id
+              )
+              and not exists (
+                    select 1
+                    from budget_plans m
+                    where m.owner_user_id = b.owner_user_id
+                      and m.period_type = b.period_type
+                      and m.start_date = n.next_start
+                      and m.name = b.name
+              )
+            order by b.end_date, b.id
+            limit :batchSize
+            for update of b skip locked
+        ),
+        rolled as (
+            insert into budget_plans (
+                id, owner_user_id, name, period_type, start_date, end_date, currency, status, alert_thresholds,
+                rolled_over_from_id
+            )
+            select uuid_generate_v7(), c.owner_user_id, c.name, c.period_type, c.next_start, c.next_end, c.currency,
+                   'ACTIVE', c.alert_thresholds, c.id
+            from claimed c
+            on conflict (rolled_over_from_id) do nothing
+            returning id, owner_user_id, rolled_over_from_id
+        ),
+        cloned as (
+            insert into budget_category_limits (id, budget_id, user_id, category_id, limit_cents, color_hex, alert_thresholds)
+            select uuid_generate_v7(), r.id, r.owner_user_id, l.category_id, l.limit_cents, l.color_hex, l.alert_thresholds
+            from rolled r
+            join budget_category_limits l on l.budget_id = r.rolled_over_from_id
+            returning budget_id
+        ),
+        shared as (
+            insert into budget_members (id, budget_id, user_id, role)
+            select uuid_generate_v7(), r.id, m.user_id, m.role
+            from rolled r
+            join budget_members m on m.budget_id = r.rolled_over_from_id
+            on conflict (budget_id, user_id) do nothing
+            returning budget_id
+        ),
+        closed as (
+            -- A predecessor is archived once its period is over; with lead days it may still be running when
+            -- its successor is created, in which case a later run closes it. Statement snapshots do not see
+            -- successors inserted above, hence the explicit check against rolled.
+            update budget_plans p
+            set status = 'ARCHIVED',
+                version = p.version + 1,
+                updated_at = now()
+            where p.status = 'ACTIVE'
+              and p.end_date < :today
+              and (
+                    p.id in (select r.rolled_over_from_id from rolled r)
+                    or exists (select 1 from budget_plans s where s.rolled_over_from_id = p.id)
+              )
+            returning p.id
+        )
+        select count(*) from rolled
+        """, nativeQuery = true)
+    long rolloverEndedBudgets(
+        @Param("today") LocalDate today,
+        @Param("through") LocalDate through,
+        @Param("catchUpFrom") LocalDate catchUpFrom,
+        @Param("batchSize") int batchSize
+    );
+
+    /** ACTIVE budgets without a successor whose next period ended before {@code catchUpFrom}, so rollover skips them. */
+    @Query(value = """
+        select b.id
+        from budget_plans b
+        where b.status = 'ACTIVE'
+          and case
+                  when b.period_type = 'MONTHLY'
+                      then cast(b.end_date + 1 + interval '1 month' - interval '1 day' as date)
+                  else b.end_date + 7
+              end < :catchUpFrom
+          and not exists (
+                select 1
+                from budget_plans r
+                where r.rolled_over_from_id = b.id
+          )
+        order by b.end_date, b.id
+        limit :limit
+        """, nativeQuery = true)
+    List<UUID> findRolloverSkipped(@Param("catchUpFrom") LocalDate catchUpFrom, @Param("limit") int limit);
 }
@@ -0,0 +1,90 @@
+package com.samjenkins.budget_service.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** Snapshots are keyed by budget and only returned for the budget version they were captured at. */
+@Repository
+@RequiredArgsConstructor
+public class BudgetSnapshotRepository {
+
+    private static final String UPSERT = """
+        insert into budget_snapshots (budget_id, budget_version, budget_json, summary_json)
+        values (?, ?, ?, ?)
+        on conflict (budget_id) do update
+            set budget_version = excluded.budget_version,
+                budget_json = excluded.budget_json,
+                summary_json = excluded.summary_json,
+                created_at = now()
+        """;
+
+    private static final String FIND_BUDGET_JSON = """
+        select budget_json
+        from budget_snapshots
+        where budget_id = ?
+          and budget_version = ?
+        """;
+
+    private static final String FIND_SUMMARY_JSON = """
+        select summary_json
+        from budget_snapshots
+        where budget_id = ?
+          and budget_version = ?
+        """;
+
+    private static final String FIND_BUDGET_JSON_BATCH = """
+        select s.budget_id, s.budget_json
+        from unnest(?::uuid[], ?::bigint[]) as k(budget_id, budget_version)
+        join budget_snapshots s
+          on s.budget_id = k.budget_id
+         and s.budget_version = k.budget_version
+        """;
+
+    private static final String DELETE = """
+        delete from budget_snapshots
+        where budget_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(UUID budgetId, long budgetVersion, byte[] budgetJson, byte[] summaryJson) {
+        jdbcTemplate.update(UPSERT, budgetId, budgetVersion, budgetJson, summaryJson);
+    }
+
+    public Optional<byte[]> findBudgetJson(UUID budgetId, long budgetVersion) {
+        return jdbcTemplate.query(FIND_BUDGET_JSON, (rs, rowNum) -> rs.getBytes(1), budgetId, budgetVersion)
+            .stream()
+            .findFirst();
+    }
+
+    public Optional<byte[]> findSummaryJson(UUID budgetId, long budgetVersion) {
+        return jdbcTemplate.query(FIND_SUMMARY_JSON, (rs, rowNum) -> rs.getBytes(1), budgetId, budgetVersion)
+            .stream()
+            .findFirst();
+    }
+
+    public Map<UUID, byte[]> findBudgetJson(List<UUID> budgetIds, List<Long> budgetVersions) {
+        Map<UUID, byte[]> snapshots = new HashMap<>();
+        if (budgetIds.isEmpty()) {
+            return snapshots;
+        }
+        jdbcTemplate.query(FIND_BUDGET_JSON_BATCH, ps -> {
+            var connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("uuid", budgetIds.toArray()));
+            ps.setArray(2, connection.createArrayOf("bigint", budgetVersions.toArray()));
+        }, rs -> {
+            snapshots.put(rs.getObject("budget_id", UUID.class), rs.getBytes("budget_json"));
+        });
+        return snapshots;
+    }
+
+    public void delete(UUID budgetId) {
+        jdbcTemplate.update(DELETE, budgetId);
+    }
+}
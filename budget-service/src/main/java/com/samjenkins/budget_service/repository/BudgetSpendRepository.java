@@ -0,0 +1,114 @@
+package com.samjenkins.budget_service.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BudgetSpendRepository {
+
+    private static final String LIMIT_SPEND = """
+        select l.category_id,
+               c.name as category_name,
+               l.limit_cents,
+               coalesce(l.alert_thresholds, b.alert_thresholds) as alert_thresholds,
+               coalesce(s.spent_cents, 0) as spent_cents
+        from budget_category_limits l
+        join budget_plans b on b.id = l.budget_id
+        join categories c on c.id = l.category_id
+        left join budget_category_spend s
+          on s.budget_id = l.budget_id
+         and s.category_id = l.category_id
+        where l.budget_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long addCategorySpend(UUID budgetId, UUID categoryId, long deltaCents) {
+        Long spent = jdbcTemplate.queryForObject("""
+            insert into budget_category_spend (budget_id, category_id, spent_cents)
+            values (?, ?, ?)
+            on conflict (budget_id, category_id) do update
+                set spent_cents = budget_category_spend.spent_cents + excluded.spent_cents,
+                    updated_at = now()
+            returning spent_cents
+            """, Long.class, budgetId, categoryId, deltaCents);
+        return spent == null ? 0L : spent;
+    }
+
+    public void addDailySpend(UUID budgetId, UUID categoryId, LocalDate day, long spentDeltaCents, long incomeDeltaCents) {
+        jdbcTemplate.update("""
+            insert into budget_daily_spend (budget_id, category_id, day, spent_cents, income_cents)
+            values (?, ?, ?, ?, ?)
+            on conflict (budget_id, day, category_id) do update
+                set spent_cents = budget_daily_spend.spent_cents + excluded.spent_cents,
+                    income_cents = budget_daily_spend.income_cents + excluded.income_cents,
+                    updated_at = now()
+            """, budgetId, categoryId, day, spentDeltaCents, incomeDeltaCents);
+    }
+
+    public List<DailySpend> findDailySpend(UUID budgetId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+            select day, sum(spent_cents) as spent_cents, sum(income_cents) as income_cents
+            from budget_daily_spend
+            where budget_id = ?
+              and day between ? and ?
+            group by day
+            order by day
+            """, this::toDailySpend, budgetId, from, to);
+    }
+
+    public List<DailySpend> findDailySpend(UUID budgetId, UUID categoryId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+            select day, spent_cents, income_cents
+            from budget_daily_spend
+            where budget_id = ?
+              and category_id = ?
+              and day between ? and ?
+            order by day
+            """, this::toDailySpend, budgetId, categoryId, from, to);
+    }
+
+    public long findCategorySpend(UUID budgetId, UUID categoryId) {
+        return jdbcTemplate.query(
+            "select spent_cents from budget_category_spend where budget_id = ? and category_id = ?",
+            rs -> rs.next() ? rs.getLong(1) : 0L,
+            budgetId,
+            categoryId
+        );
+    }
+
+    public List<CategoryLimitSpend> findLimitSpend(UUID budgetId) {
+        return jdbcTemplate.query(LIMIT_SPEND + " order by l.created_at", this::toLimitSpend, budgetId);
+    }
+
+    public List<CategoryLimitSpend> findLimitSpend(UUID budgetId, UUID categoryId) {
+        return jdbcTemplate.query(LIMIT_SPEND + " and l.category_id = ?", this::toLimitSpend, budgetId, categoryId);
+    }
+
+    private DailySpend toDailySpend(ResultSet rs, int rowNum) throws SQLException {
+        return new DailySpend(
+            rs.getObject("day", LocalDate.class),
+            rs.getLong("spent_cents"),
+            rs.getLong("income_cents")
+        );
+    }
+
+    private CategoryLimitSpend toLimitSpend(ResultSet rs, int rowNum) throws SQLException {
+        Integer[] thresholds = (Integer[]) rs.getArray("alert_thresholds").getArray();
+        return new CategoryLimitSpend(
+            rs.getObject("category_id", UUID.class),
+            rs.getString("category_name"),
+            rs.getLong("limit_cents"),
+            Arrays.asList(thresholds),
+            rs.getLong("spent_cents")
+        );
+    }
+}
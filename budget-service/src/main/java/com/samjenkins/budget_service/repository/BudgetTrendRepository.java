@@ -0,0 +1,125 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import com.samjenkins.budget_service.entity.BudgetStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BudgetTrendRepository {
+
+    // Budgets without spend still contribute a period (with a null category) so gaps show as zero.
+    private static final String PERIOD_TOTALS = """
+        select b.start_date, max(b.end_date) as end_date, s.category_id, coalesce(sum(s.spent_cents), 0) as spent_cents
+        from budget_plans b
+        left join budget_category_spend s on s.budget_id = b.id
+        where b.owner_user_id = ?
+          and b.period_type = ?
+          and b.status = ?
+        group by b.start_date, s.category_id
+        """;
+
+    // Changes whenever a budget enters or leaves the archived set or an archived budget is updated, since
+    // every write to budget_plans bumps its version.
+    private static final String ARCHIVED_STAMP = """
+        select coalesce(md5(string_agg(b.id::text || ':' || b.version, ',' order by b.id)), '')
+        from budget_plans b
+        where b.owner_user_id = ?
+          and b.period_type = ?
+          and b.status = 'ARCHIVED'
+        """;
+
+    // Every category gets a row in every period; averages and deltas only look backwards, so a closed
+    // period's figures are fixed once the periods before it are.
+    private static final String CATEGORY_TRENDS = """
+        with input as (
+            select *
+            from unnest(?::date[], ?::date[], ?::boolean[], ?::uuid[], ?::bigint[])
+                as t(start_date, end_date, closed, category_id, spent_cents)
+        ),
+        periods as (
+            select start_date, max(end_date) as end_date, bool_and(closed) as closed
+            from input
+            group by start_date
+        ),
+        categories as (
+            select distinct category_id
+            from input
+            where category_id is not null
+        ),
+        grid as (
+            select p.start_date, p.end_date, p.closed, c.category_id, coalesce(sum(i.spent_cents), 0) as spent_cents
+            from periods p
+            cross join categories c
+            left join input i
+              on i.start_date = p.start_date
+             and i.category_id = c.category_id
+            group by p.start_date, p.end_date, p.closed, c.category_id
+        ),
+        trends as (
+            select g.*,
+                   round(avg(spent_cents) over (
+                       partition by category_id order by start_date
+                       rows between unbounded preceding and current row
+                   ))::bigint as average_cents,
+                   round(avg(spent_cents) over (
+                       partition by category_id order by start_date
+                       rows between 2 preceding and current row
+                   ))::bigint as trailing_average_cents,
+                   spent_cents - lag(spent_cents) over (partition by category_id order by start_date) as delta_cents,
+                   dense_rank() over (order by start_date desc) as recency
+            from grid g
+        )
+        select category_id, start_date, end_date, closed, spent_cents, average_cents, trailing_average_cents, delta_cents
+        from trends
+        where recency <= ?
+        order by category_id, start_date
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PeriodCategoryTotal> findPeriodTotals(UUID ownerUserId, BudgetPeriodType periodType, BudgetStatus status) {
+        boolean closed = status == BudgetStatus.ARCHIVED;
+        return jdbcTemplate.query(PERIOD_TOTALS, (rs, rowNum) -> new PeriodCategoryTotal(
+            rs.getObject("start_date", LocalDate.class),
+            rs.getObject("end_date", LocalDate.class),
+            closed,
+            rs.getObject("category_id", UUID.class),
+            rs.getLong("spent_cents")
+        ), ownerUserId, periodType.name(), status.name());
+    }
+
+    public String archivedStamp(UUID ownerUserId, BudgetPeriodType periodType) {
+        return jdbcTemplate.queryForObject(ARCHIVED_STAMP, String.class, ownerUserId, periodType.name());
+    }
+
+    public List<CategoryTrendRow> computeTrends(List<PeriodCategoryTotal> totals, int periods) {
+        if (totals.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(CATEGORY_TRENDS, ps -> {
+            var connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("date", totals.stream().map(PeriodCategoryTotal::startDate).toArray()));
+            ps.setArray(2, connection.createArrayOf("date", totals.stream().map(PeriodCategoryTotal::endDate).toArray()));
+            ps.setArray(3, connection.createArrayOf("boolean", totals.stream().map(PeriodCategoryTotal::closed).toArray()));
+            ps.setArray(4, connection.createArrayOf("uuid", totals.stream().map(PeriodCategoryTotal::categoryId).toArray()));
+            ps.setArray(5, connection.createArrayOf("bigint", totals.stream().map(PeriodCategoryTotal::spentCents).toArray()));
+            ps.setInt(6, periods);
+        }, (rs, rowNum) -> new CategoryTrendRow(
+            rs.getObject("category_id", UUID.class),
+            rs.getObject("start_date", LocalDate.class),
+            rs.getObject("end_date", LocalDate.class),
+            rs.getBoolean("closed"),
+            rs.getLong("spent_cents"),
+            rs.getLong("average_cents"),
+            rs.getLong("trailing_average_cents"),
+            rs.getObject("delta_cents", Long.class)
+        ));
+    }
+}
@@ -0,0 +1,13 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CategorizationRuleRepository extends JpaRepository<CategorizationRule, UUID> {
+    List<CategorizationRule> findAllByUserIdOrderByPriorityAscIdAsc(UUID userId);
+
+    Optional<CategorizationRule> findByIdAndUserId(UUID id, UUID userId);
+}
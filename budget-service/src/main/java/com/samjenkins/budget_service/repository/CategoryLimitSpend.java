@@ -0,0 +1,12 @@
+package com.samjenkins.budget_service.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CategoryLimitSpend(
+    UUID categoryId,
+    String categoryName,
+    long limitCents,
+    List<Integer> alertThresholds,
+    long spentCents
+) {}
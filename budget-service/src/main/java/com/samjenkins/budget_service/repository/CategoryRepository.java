@@ -15,6 +15,4 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     boolean existsByIdAndUserId(UUID id, UUID userId);
 
     List<Category> findAllByUserIdAndIdIn(UUID userId, Collection<UUID> ids);
-
-    List<Category> findAllByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,15 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CategoryTrendRow(
+    UUID categoryId,
+    LocalDate startDate,
+    LocalDate endDate,
+    boolean closed,
+    long spentCents,
+    long averageCents,
+    long trailingAverageCents,
+    Long deltaCents
+) {}
@@ -0,0 +1,5 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.LocalDate;
+
+public record DailySpend(LocalDate day, long spentCents, long incomeCents) {}
@@ -0,0 +1,120 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    // Takes over a key whose entry has expired, or whose claim was abandoned mid-request.
+    private static final String CLAIM = """
+        insert into idempotency_keys (user_id, idempotency_key, request_hash, claim_token, expires_at)
+        values (?, ?, ?, ?, now() + make_interval(secs => ?))
+        on conflict (user_id, idempotency_key) do update
+            set request_hash = excluded.request_hash,
+                claim_token = excluded.claim_token,
+                status_code = null,
+                content_type = null,
+                etag = null,
+                location = null,
+                response_body = null,
+                created_at = now(),
+                expires_at = excluded.expires_at
+            where idempotency_keys.expires_at < now()
+               or (idempotency_keys.status_code is null and idempotency_keys.created_at < now() - make_interval(secs => ?))
+        returning idempotency_key
+        """;
+
+    private static final String FIND = """
+        select request_hash, status_code, content_type, etag, location, response_body
+        from idempotency_keys
+        where user_id = ?
+          and idempotency_key = ?
+          and expires_at > now()
+        """;
+
+    // Only the request still holding the claim may store a response or release it; one whose lease was
+    // taken over by a retry matches no row.
+    private static final String COMPLETE = """
+        update idempotency_keys
+        set status_code = ?, content_type = ?, etag = ?, location = ?, response_body = ?
+        where user_id = ?
+          and idempotency_key = ?
+          and claim_token = ?
+          and status_code is null
+        """;
+
+    private static final String RELEASE = """
+        delete from idempotency_keys
+        where user_id = ?
+          and idempotency_key = ?
+          and claim_token = ?
+          and status_code is null
+        """;
+
+    private static final String DELETE_EXPIRED = """
+        delete from idempotency_keys
+        where ctid in (
+            select ctid
+            from idempotency_keys
+            where expires_at < now()
+            limit ?
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean claim(UUID userId, String key, String requestHash, UUID claimToken, Duration ttl, Duration inProgressLease) {
+        List<String> claimed = jdbcTemplate.queryForList(
+            CLAIM,
+            String.class,
+            userId,
+            key,
+            requestHash,
+            claimToken,
+            (double) ttl.toSeconds(),
+            (double) inProgressLease.toSeconds()
+        );
+        return !claimed.isEmpty();
+    }
+
+    public Optional<IdempotencyRecord> find(UUID userId, String key) {
+        return jdbcTemplate.query(FIND, (rs, rowNum) -> new IdempotencyRecord(
+            rs.getString("request_hash"),
+            rs.getObject("status_code", Integer.class),
+            rs.getString("content_type"),
+            rs.getString("etag"),
+            rs.getString("location"),
+            rs.getBytes("response_body")
+        ), userId, key).stream().findFirst();
+    }
+
+    /** Returns false when the claim is no longer held by {@code claimToken}, in which case nothing is stored. */
+    public boolean complete(UUID userId, String key, UUID claimToken, IdempotencyRecord response) {
+        return jdbcTemplate.update(
+            COMPLETE,
+            response.statusCode(),
+            response.contentType(),
+            response.etag(),
+            response.location(),
+            response.body(),
+            userId,
+            key,
+            claimToken
+        ) > 0;
+    }
+
+    public void release(UUID userId, String key, UUID claimToken) {
+        jdbcTemplate.update(RELEASE, userId, key, claimToken);
+    }
+
+    public int deleteExpired(int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED, batchSize);
+    }
+}
@@ -0,0 +1,19 @@
+package com.samjenkins.budget_service.repository;
+
+/**
+ * A stored Idempotency-Key entry; {@code statusCode} is null while the original request is still running.
+ * Only the ETag and Location headers are kept for replay.
+ */
+public record IdempotencyRecord(
+    String requestHash,
+    Integer statusCode,
+    String contentType,
+    String etag,
+    String location,
+    byte[] body
+) {
+
+    public boolean isComplete() {
+        return statusCode != null;
+    }
+}
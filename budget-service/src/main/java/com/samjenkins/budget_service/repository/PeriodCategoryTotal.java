@@ -0,0 +1,6 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PeriodCategoryTotal(LocalDate startDate, LocalDate endDate, boolean closed, UUID categoryId, long spentCents) {}
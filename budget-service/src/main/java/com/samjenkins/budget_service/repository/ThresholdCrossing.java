@@ -0,0 +1,6 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.AlertType;
+import java.util.UUID;
+
+public record ThresholdCrossing(UUID categoryId, AlertType type, int thresholdPct, String message) {}
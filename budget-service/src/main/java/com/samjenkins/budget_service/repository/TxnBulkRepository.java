@@ -0,0 +1,35 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface TxnBulkRepository {
+
+    /** Sets the category of every selected transaction in the budget in one statement. */
+    List<BulkChange> recategorize(UUID budgetId, Selection selection, UUID categoryId);
+
+    /**
+     * Moves every selected transaction to the target budget in one statement. A transaction keeps its
+     * category only if the target budget has a limit for it.
+     */
+    List<BulkChange> move(UUID budgetId, Selection selection, UUID targetBudgetId);
+
+    List<BulkChange> delete(UUID budgetId, Selection selection);
+
+    long countOutsideDates(UUID budgetId, Selection selection, LocalDate start, LocalDate end);
+
+    /** Either explicit ids, or the filter fields (all optional, combined with and). */
+    record Selection(List<UUID> ids, UUID categoryId, LocalDate minDate, LocalDate maxDate) {}
+
+    /** A changed row's budget and category before and after; the after side is null for deletes. */
+    record BulkChange(
+        UUID id,
+        UUID oldBudgetId,
+        UUID oldCategoryId,
+        UUID newBudgetId,
+        UUID newCategoryId,
+        long amountCents,
+        LocalDate transactionDate
+    ) {}
+}
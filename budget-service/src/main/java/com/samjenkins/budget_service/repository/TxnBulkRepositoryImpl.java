@@ -0,0 +1,149 @@
+package com.samjenkins.budget_service.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+@RequiredArgsConstructor
+class TxnBulkRepositoryImpl implements TxnBulkRepository {
+
+    // Postgres 16 has no OLD in RETURNING, so the prior budget/category come from the locked target rows.
+    private static final String RECATEGORIZE = """
+        with target as (
+            select t.id, t.category_id
+            from transactions t
+            where %s
+            for update
+        )
+        update transactions t
+        set category_id = ?, updated_at = now(), version = t.version + 1
+        from target
+        where t.id = target.id
+        returning t.id, t.budget_id as old_budget_id, target.category_id as old_category_id,
+                  t.budget_id as new_budget_id, t.category_id as new_category_id, t.amount_cents, t.transaction_date
+        """;
+
+    private static final String MOVE = """
+        with target as (
+            select t.id, t.budget_id, t.category_id
+            from transactions t
+            where %s
+            for update
+        )
+        update transactions t
+        set budget_id = ?,
+            category_id = case
+                when exists (
+                    select 1
+                    from budget_category_limits l
+                    where l.budget_id = ?
+                      and l.category_id = target.category_id
+                ) then target.category_id
+            end,
+            updated_at = now(),
+            version = t.version + 1
+        from target
+        where t.id = target.id
+        returning t.id, target.budget_id as old_budget_id, target.category_id as old_category_id,
+                  t.budget_id as new_budget_id, t.category_id as new_category_id, t.amount_cents, t.transaction_date
+        """;
+
+    private static final String DELETE = """
+        delete from transactions t
+        where %s
+        returning t.id, t.budget_id as old_budget_id, t.category_id as old_category_id,
+                  null::uuid as new_budget_id, null::uuid as new_category_id, t.amount_cents, t.transaction_date
+        """;
+
+    private static final String COUNT_OUTSIDE_DATES = """
+        select count(*)
+        from transactions t
+        where %s
+          and t.transaction_date not between ? and ?
+        """;
+
+    private static final RowMapper<BulkChange> BULK_CHANGE = (rs, rowNum) -> new BulkChange(
+        rs.getObject("id", UUID.class),
+        rs.getObject("old_budget_id", UUID.class),
+        rs.getObject("old_category_id", UUID.class),
+        rs.getObject("new_budget_id", UUID.class),
+        rs.getObject("new_category_id", UUID.class),
+        rs.getLong("amount_cents"),
+        rs.getObject("transaction_date", LocalDate.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BulkChange> recategorize(UUID budgetId, Selection selection, UUID categoryId) {
+        List<Object> args = new ArrayList<>();
+        String where = where(budgetId, selection, args);
+        args.add(categoryId);
+        return jdbcTemplate.query(RECATEGORIZE.formatted(where), bind(args), BULK_CHANGE);
+    }
+
+    @Override
+    public List<BulkChange> move(UUID budgetId, Selection selection, UUID targetBudgetId) {
+        List<Object> args = new ArrayList<>();
+        String where = where(budgetId, selection, args);
+        args.add(targetBudgetId);
+        args.add(targetBudgetId);
+        return jdbcTemplate.query(MOVE.formatted(where), bind(args), BULK_CHANGE);
+    }
+
+    @Override
+    public List<BulkChange> delete(UUID budgetId, Selection selection) {
+        List<Object> args = new ArrayList<>();
+        String where = where(budgetId, selection, args);
+        return jdbcTemplate.query(DELETE.formatted(where), bind(args), BULK_CHANGE);
+    }
+
+    @Override
+    public long countOutsideDates(UUID budgetId, Selection selection, LocalDate start, LocalDate end) {
+        List<Object> args = new ArrayList<>();
+        String where = where(budgetId, selection, args);
+        args.add(start);
+        args.add(end);
+        List<Long> counts = jdbcTemplate.query(COUNT_OUTSIDE_DATES.formatted(where), bind(args), (rs, rowNum) -> rs.getLong(1));
+        return counts.isEmpty() ? 0L : counts.get(0);
+    }
+
+    private String where(UUID budgetId, Selection selection, List<Object> args) {
+        StringBuilder where = new StringBuilder("t.budget_id = ?");
+        args.add(budgetId);
+        if (selection.ids() != null) {
+            where.append(" and t.id = any(?::uuid[])");
+            args.add(selection.ids());
+        }
+        if (selection.categoryId() != null) {
+            where.append(" and t.category_id = ?");
+            args.add(selection.categoryId());
+        }
+        if (selection.minDate() != null) {
+            where.append(" and t.transaction_date >= ?");
+            args.add(selection.minDate());
+        }
+        if (selection.maxDate() != null) {
+            where.append(" and t.transaction_date <= ?");
+            args.add(selection.maxDate());
+        }
+        return where.toString();
+    }
+
+    private static PreparedStatementSetter bind(List<Object> args) {
+        return ps -> {
+            for (int i = 0; i < args.size(); i++) {
+                if (args.get(i) instanceof List<?> ids) {
+                    ps.setArray(i + 1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+                } else {
+                    ps.setObject(i + 1, args.get(i));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.TransactionSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface TxnImportRepository {
+
+    /**
+     * Inserts the rows into the budget in one statement, skipping any row whose fingerprint already
+     * occurs in the budget at least as many times as it has occurred so far in the batch. Re-importing an
+     * overlapping export therefore adds only the rows that are new, while repeated identical rows within
+     * an export are kept. Returns the rows that were inserted.
+     */
+    List<ImportRow> insertSkippingDuplicates(UUID budgetId, UUID userId, TransactionSource source, List<ImportRow> rows);
+
+    record ImportRow(
+        UUID id,
+        UUID categoryId,
+        String merchant,
+        String description,
+        long amountCents,
+        LocalDate transactionDate
+    ) {}
+}
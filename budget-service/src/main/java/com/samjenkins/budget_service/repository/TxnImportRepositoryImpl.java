@@ -0,0 +1,75 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.entity.TransactionSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class TxnImportRepositoryImpl implements TxnImportRepository {
+
+    private static final String INSERT_SKIPPING_DUPLICATES = """
+        with input as (
+            select i.*,
+                   transaction_fingerprint(?, i.transaction_date, i.amount_cents, i.merchant) as fingerprint
+            from unnest(?::uuid[], ?::uuid[], ?::text[], ?::text[], ?::bigint[], ?::date[])
+                with ordinality as i(id, category_id, merchant, description, amount_cents, transaction_date, ord)
+        ),
+        numbered as (
+            select input.*, row_number() over (partition by fingerprint order by ord) as occurrence
+            from input
+        ),
+        existing as (
+            select t.fingerprint, count(*) as occurrences
+            from transactions t
+            where t.fingerprint in (select fingerprint from input)
+            group by t.fingerprint
+        )
+        insert into transactions (
+            id, user_id, budget_id, category_id, merchant, description, amount_cents, transaction_date, source, updated_at
+        )
+        select n.id, ?, ?, n.category_id, n.merchant, n.description, n.amount_cents, n.transaction_date, ?, now()
+        from numbered n
+        left join existing e on e.fingerprint = n.fingerprint
+        where n.occurrence > coalesce(e.occurrences, 0)
+        order by n.ord
+        returning id, category_id, merchant, description, amount_cents, transaction_date
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ImportRow> insertSkippingDuplicates(
+        UUID budgetId,
+        UUID userId,
+        TransactionSource source,
+        List<ImportRow> rows
+    ) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(INSERT_SKIPPING_DUPLICATES, ps -> {
+            var connection = ps.getConnection();
+            ps.setObject(1, budgetId);
+            ps.setArray(2, connection.createArrayOf("uuid", rows.stream().map(ImportRow::id).toArray()));
+            ps.setArray(3, connection.createArrayOf("uuid", rows.stream().map(ImportRow::categoryId).toArray()));
+            ps.setArray(4, connection.createArrayOf("text", rows.stream().map(ImportRow::merchant).toArray()));
+            ps.setArray(5, connection.createArrayOf("text", rows.stream().map(ImportRow::description).toArray()));
+            ps.setArray(6, connection.createArrayOf("bigint", rows.stream().map(ImportRow::amountCents).toArray()));
+            ps.setArray(7, connection.createArrayOf("date", rows.stream().map(ImportRow::transactionDate).toArray()));
+            ps.setObject(8, userId);
+            ps.setObject(9, budgetId);
+            ps.setString(10, source.name());
+        }, (rs, rowNum) -> new ImportRow(
+            rs.getObject("id", UUID.class),
+            rs.getObject("category_id", UUID.class),
+            rs.getString("merchant"),
+            rs.getString("description"),
+            rs.getLong("amount_cents"),
+            rs.getObject("transaction_date", LocalDate.class)
+        ));
+    }
+}
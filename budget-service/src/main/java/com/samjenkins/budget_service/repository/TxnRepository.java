@@ -1,8 +1,12 @@
 package com.samjenkins.budget_service.repository;
 
+import com.samjenkins.budget_service.dto.TransactionResponse;
 import com.samjenkins.budget_service.entity.Txn;
+import com.samjenkins.budget_service.repository.projection.BudgetCategorySpendByBudgetProjection;
 import com.samjenkins.budget_service.repository.projection.BudgetCategorySpendProjection;
+import com.samjenkins.budget_service.repository.projection.BudgetTotalsProjection;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,21 +15,43 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TxnRepository extends JpaRepository<Txn, UUID> {
+public interface TxnRepository extends JpaRepository<Txn, UUID>, TxnSearchRepository, TxnImportRepository,
+    TxnBulkRepository, TxnUpdateRepository {
     Optional<Txn> findByIdAndBudgetId(UUID id, UUID budgetId);
 
-    List<Txn> findAllByBudgetIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-        UUID budgetId,
-        LocalDate start,
-        LocalDate end,
+    @Query("""
+        select new com.samjenkins.budget_service.dto.TransactionResponse(
+            t.id, t.budgetId, t.categoryId, t.merchant, t.description, t.amountCents,
+            t.transactionDate, t.source, t.createdAt, t.updatedAt, t.version
+        )
+        from Txn t
+        where t.budgetId = :budgetId
+          and t.transactionDate between :start and :end
+        order by t.transactionDate desc, t.createdAt desc
+        """)
+    List<TransactionResponse> findResponsesByBudget(
+        @Param("budgetId") UUID budgetId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
         Pageable pageable
     );
 
-    List<Txn> findAllByBudgetIdAndCategoryIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-        UUID budgetId,
-        UUID categoryId,
-        LocalDate start,
-        LocalDate end,
+    @Query("""
+        select new com.samjenkins.budget_service.dto.TransactionResponse(
+            t.id, t.budgetId, t.categoryId, t.merchant, t.description, t.amountCents,
+            t.transactionDate, t.source, t.createdAt, t.updatedAt, t.version
+        )
+        from Txn t
+        where t.budgetId = :budgetId
+          and t.categoryId = :categoryId
+          and t.transactionDate between :start and :end
+        order by t.transactionDate desc, t.createdAt desc
+        """)
+    List<TransactionResponse> findResponsesByBudgetAndCategory(
+        @Param("budgetId") UUID budgetId,
+        @Param("categoryId") UUID categoryId,
+        @Param("start") LocalDate start,
+        @Param("end") LocalDate end,
         Pageable pageable
     );
 
@@ -40,27 +66,28 @@ public interface TxnRepository extends JpaRepository<Txn, UUID> {
     List<BudgetCategorySpendProjection> summarizeBudgetCategoryExpenses(@Param("budgetId") UUID budgetId);
 
     @Query("""
-        select coalesce(sum(case when t.amountCents > 0 then t.amountCents else 0 end), 0)
+        select t.budgetId as budgetId, t.categoryId as categoryId, coalesce(sum(-t.amountCents), 0) as spentCents
         from Txn t
-        where t.budgetId = :budgetId
-        """)
-    long sumIncomeByBudget(@Param("budgetId") UUID budgetId);
-
-    @Query("""
-        select coalesce(sum(case when t.amountCents < 0 then -t.amountCents else 0 end), 0)
-        from Txn t
-        where t.budgetId = :budgetId
+        where t.budgetId in :budgetIds
+          and t.categoryId is not null
+          and t.amountCents < 0
+        group by t.budgetId, t.categoryId
         """)
-    long sumExpensesByBudget(@Param("budgetId") UUID budgetId);
+    List<BudgetCategorySpendByBudgetProjection> summarizeCategoryExpensesByBudgetIds(
+        @Param("budgetIds") Collection<UUID> budgetIds
+    );
 
     @Query("""
-        select coalesce(sum(-t.amountCents), 0)
+        select t.budgetId as budgetId,
+               coalesce(sum(case when t.amountCents > 0 then t.amountCents else 0 end), 0) as incomeCents,
+               coalesce(sum(case when t.amountCents < 0 then -t.amountCents else 0 end), 0) as expenseCents,
+               coalesce(sum(case when t.amountCents < 0 and t.categoryId is null then -t.amountCents else 0 end), 0)
+                   as uncategorizedExpenseCents
         from Txn t
-        where t.budgetId = :budgetId
-          and t.categoryId is null
-          and t.amountCents < 0
+        where t.budgetId in :budgetIds
+        group by t.budgetId
         """)
-    long sumUncategorizedExpensesByBudget(@Param("budgetId") UUID budgetId);
+    List<BudgetTotalsProjection> summarizeTotalsByBudgetIds(@Param("budgetIds") Collection<UUID> budgetIds);
 
     @Query("""
         select coalesce(sum(-t.amountCents), 0)
@@ -0,0 +1,25 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.dto.TransactionResponse;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface TxnSearchRepository {
+
+    /**
+     * Transactions in budgets the user owns or is a member of whose merchant or description contains
+     * {@code query}, newest first. Pages by keyset: pass the last row of the previous page as {@code after}.
+     */
+    List<TransactionResponse> search(
+        UUID userId,
+        String query,
+        Long minAmountCents,
+        Long maxAmountCents,
+        SearchKey after,
+        int limit
+    );
+
+    record SearchKey(LocalDate transactionDate, OffsetDateTime createdAt, UUID id) {}
+}
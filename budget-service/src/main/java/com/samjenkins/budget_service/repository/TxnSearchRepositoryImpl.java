@@ -0,0 +1,81 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.entity.TransactionSource;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@RequiredArgsConstructor
+class TxnSearchRepositoryImpl implements TxnSearchRepository {
+
+    // Same membership rule as BudgetAccessService.requireReadAccess, applied as a join instead of per row.
+    private static final String SEARCH = """
+        select t.id, t.budget_id, t.category_id, t.merchant, t.description, t.amount_cents,
+               t.transaction_date, t.source, t.created_at, t.updated_at, t.version
+        from transactions t
+        join budget_plans b on b.id = t.budget_id
+        where (
+                b.owner_user_id = ?
+                or exists (select 1 from budget_members m where m.budget_id = b.id and m.user_id = ?)
+              )
+          and (t.merchant ilike ? escape '\\' or t.description ilike ? escape '\\')
+        """;
+
+    static final RowMapper<TransactionResponse> TRANSACTION_RESPONSE = (rs, rowNum) -> new TransactionResponse(
+        rs.getObject("id", UUID.class),
+        rs.getObject("budget_id", UUID.class),
+        rs.getObject("category_id", UUID.class),
+        rs.getString("merchant"),
+        rs.getString("description"),
+        rs.getLong("amount_cents"),
+        rs.getObject("transaction_date", LocalDate.class),
+        TransactionSource.valueOf(rs.getString("source")),
+        rs.getObject("created_at", OffsetDateTime.class),
+        rs.getObject("updated_at", OffsetDateTime.class),
+        rs.getLong("version")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TransactionResponse> search(
+        UUID userId,
+        String query,
+        Long minAmountCents,
+        Long maxAmountCents,
+        SearchKey after,
+        int limit
+    ) {
+        String pattern = "%" + escapeLike(query) + "%";
+        StringBuilder sql = new StringBuilder(SEARCH);
+        List<Object> args = new ArrayList<>(List.of(userId, userId, pattern, pattern));
+        if (minAmountCents != null) {
+            sql.append("  and t.amount_cents >= ?\n");
+            args.add(minAmountCents);
+        }
+        if (maxAmountCents != null) {
+            sql.append("  and t.amount_cents <= ?\n");
+            args.add(maxAmountCents);
+        }
+        if (after != null) {
+            sql.append("  and (t.transaction_date, t.created_at, t.id) < (?, ?, ?)\n");
+            args.add(after.transactionDate());
+            args.add(after.createdAt());
+            args.add(after.id());
+        }
+        sql.append("order by t.transaction_date desc, t.created_at desc, t.id desc\nlimit ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), TRANSACTION_RESPONSE, args.toArray());
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
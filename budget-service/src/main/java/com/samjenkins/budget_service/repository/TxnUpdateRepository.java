@@ -0,0 +1,14 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.entity.Txn;
+import java.util.Optional;
+
+public interface TxnUpdateRepository {
+
+    /**
+     * Writes the edited transaction in one statement, only if the row is still at {@code expectedVersion}.
+     * Returns the stored row with its new version, or empty when another write got there first.
+     */
+    Optional<TransactionResponse> updateIfVersion(Txn edited, long expectedVersion);
+}
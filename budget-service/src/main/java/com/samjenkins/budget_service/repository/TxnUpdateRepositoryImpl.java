@@ -0,0 +1,49 @@
+package com.samjenkins.budget_service.repository;
+
+import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.entity.Txn;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class TxnUpdateRepositoryImpl implements TxnUpdateRepository {
+
+    private static final String UPDATE_IF_VERSION = """
+        update transactions
+        set budget_id = ?,
+            category_id = ?,
+            merchant = ?,
+            description = ?,
+            amount_cents = ?,
+            transaction_date = ?,
+            source = ?,
+            updated_at = now(),
+            version = version + 1
+        where id = ?
+          and version = ?
+        returning id, budget_id, category_id, merchant, description, amount_cents,
+                  transaction_date, source, created_at, updated_at, version
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<TransactionResponse> updateIfVersion(Txn edited, long expectedVersion) {
+        List<TransactionResponse> rows = jdbcTemplate.query(
+            UPDATE_IF_VERSION,
+            TxnSearchRepositoryImpl.TRANSACTION_RESPONSE,
+            edited.getBudgetId(),
+            edited.getCategoryId(),
+            edited.getMerchant(),
+            edited.getDescription(),
+            edited.getAmountCents(),
+            edited.getTransactionDate(),
+            edited.getSource().name(),
+            edited.getId(),
+            expectedVersion
+        );
+        return rows.stream().findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package com.samjenkins.budget_service.repository.projection;
+
+import java.util.UUID;
+
+public interface BudgetCategorySpendByBudgetProjection {
+    UUID getBudgetId();
+
+    UUID getCategoryId();
+
+    long getSpentCents();
+}
@@ -0,0 +1,13 @@
+package com.samjenkins.budget_service.repository.projection;
+
+import java.util.UUID;
+
+public interface BudgetTotalsProjection {
+    UUID getBudgetId();
+
+    long getIncomeCents();
+
+    long getExpenseCents();
+
+    long getUncategorizedExpenseCents();
+}
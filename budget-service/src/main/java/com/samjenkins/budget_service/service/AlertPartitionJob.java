@@ -0,0 +1,32 @@
+package com.samjenkins.budget_service.service;
+
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Keeps alert month partitions created ahead of time, independently of the retention job. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertPartitionJob {
+
+    private final AlertRetentionService alertRetentionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${app.alert-partitions.cron}")
+    public void run() {
+        try {
+            alertRetentionService.ensureUpcomingPartitions(OffsetDateTime.now());
+        } catch (RuntimeException ex) {
+            log.error("Creating upcoming alert partitions failed; new alerts fall back to alerts_default", ex);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.AlertRetentionProperties;
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertRetentionJob {
+
+    private final AlertRetentionService alertRetentionService;
+    private final AlertRetentionProperties alertRetentionProperties;
+
+    @Scheduled(cron = "${app.alert-retention.cron}")
+    public void run() {
+        if (!alertRetentionProperties.enabled()) {
+            return;
+        }
+
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(alertRetentionProperties.retentionDays());
+        int total = 0;
+        int archived;
+        do {
+            archived = alertRetentionService.archiveBatch(cutoff);
+            total += archived;
+        } while (archived >= alertRetentionProperties.batchSize());
+
+        int dropped = alertRetentionService.dropEmptyPartitionsBefore(cutoff);
+        if (total > 0 || dropped > 0) {
+            log.info("Archived {} read alerts and dropped {} empty alert partitions", total, dropped);
+        }
+    }
+}
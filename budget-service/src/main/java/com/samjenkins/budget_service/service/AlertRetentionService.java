@@ -0,0 +1,53 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.AlertRetentionProperties;
+import com.samjenkins.budget_service.repository.AlertPartitionRepository;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AlertRetentionService {
+
+    private final AlertPartitionRepository alertPartitionRepository;
+    private final AlertRetentionProperties alertRetentionProperties;
+
+    public void ensurePartitions(YearMonth from, YearMonth through) {
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            alertPartitionRepository.createPartition(month);
+        }
+    }
+
+    public void ensureUpcomingPartitions(OffsetDateTime now) {
+        YearMonth current = YearMonth.from(now.withOffsetSameInstant(ZoneOffset.UTC));
+        ensurePartitions(current, current.plusMonths(alertRetentionProperties.partitionsAhead()));
+    }
+
+    @Transactional
+    public int archiveBatch(OffsetDateTime cutoff) {
+        return alertPartitionRepository.archiveReadAlertsCreatedBefore(cutoff, alertRetentionProperties.batchSize());
+    }
+
+    /**
+     * Drops month partitions that end before the cutoff and hold no alerts. Months that still contain
+     * unread alerts are kept until those alerts are read and archived.
+     */
+    public int dropEmptyPartitionsBefore(OffsetDateTime cutoff) {
+        YearMonth cutoffMonth = YearMonth.from(cutoff.withOffsetSameInstant(ZoneOffset.UTC));
+        int dropped = 0;
+        for (YearMonth month : alertPartitionRepository.findPartitionMonths()) {
+            if (!month.isBefore(cutoffMonth)) {
+                break;
+            }
+            if (alertPartitionRepository.isPartitionEmpty(month)) {
+                alertPartitionRepository.dropPartition(month);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+}
@@ -1,105 +1,149 @@
 package com.samjenkins.budget_service.service;
 
+import com.samjenkins.budget_service.config.AfterCommit;
 import com.samjenkins.budget_service.dto.AlertResponse;
+import com.samjenkins.budget_service.dto.MarkAlertsReadRequest;
+import com.samjenkins.budget_service.dto.MarkAlertsReadResponse;
 import com.samjenkins.budget_service.entity.Alert;
 import com.samjenkins.budget_service.entity.AlertType;
 import com.samjenkins.budget_service.entity.Budget;
+import com.samjenkins.budget_service.exception.BadRequestException;
 import com.samjenkins.budget_service.exception.NotFoundException;
 import com.samjenkins.budget_service.repository.AlertRepository;
-import com.samjenkins.budget_service.repository.TxnRepository;
-import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
 import com.samjenkins.budget_service.repository.BudgetMemberRepository;
 import com.samjenkins.budget_service.repository.BudgetRepository;
-import com.samjenkins.budget_service.repository.CategoryRepository;
+import com.samjenkins.budget_service.repository.BudgetSpendRepository;
+import com.samjenkins.budget_service.repository.CategoryLimitSpend;
+import com.samjenkins.budget_service.repository.ThresholdCrossing;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AlertService {
 
     private static final int DEFAULT_LIMIT = 50;
     private static final int MAX_LIMIT = 200;
+    private static final int PROJECTED_THRESHOLD_PCT = 100;
+    static final String ALERT_EVENT = "alert";
 
     private final AlertRepository alertRepository;
-    private final TxnRepository txnRepository;
+    private final BudgetSpendRepository budgetSpendRepository;
     private final BudgetRepository budgetRepository;
     private final BudgetMemberRepository budgetMemberRepository;
-    private final BudgetCategoryLimitRepository budgetCategoryLimitRepository;
-    private final CategoryRepository categoryRepository;
+    private final AlertStreamHub alertStreamHub;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void evaluateBudgetThresholdsForBudget(UUID budgetId, UUID categoryId) {
-        var budgetOpt = budgetRepository.findById(budgetId);
-        if (budgetOpt.isEmpty()) {
-            return;
-        }
+    /**
+     * Re-evaluates one category limit of the budget once the caller's transaction commits, in its own
+     * transaction. Failures are logged and never reach the caller, whose write has already committed.
+     */
+    public void enqueueCategoryEvaluationAfterCommit(UUID budgetId, UUID categoryId) {
+        AfterCommit.run(() -> evaluateSafely(
+            () -> budgetRepository.findById(budgetId)
+                .ifPresent(budget -> evaluate(budget, budgetSpendRepository.findLimitSpend(budgetId, categoryId))),
+            budgetId,
+            categoryId
+        ));
+    }
 
-        var limitOpt = budgetCategoryLimitRepository.findByBudgetIdAndCategoryId(budgetId, categoryId);
-        if (limitOpt.isEmpty()) {
-            return;
+    /**
+     * Like {@link #enqueueCategoryEvaluationAfterCommit} for every category limit on the budget, e.g. after
+     * limits or membership change. Already-alerted thresholds are skipped by the marks table.
+     */
+    public void enqueueBudgetEvaluationAfterCommit(UUID budgetId) {
+        AfterCommit.run(() -> evaluateSafely(
+            () -> budgetRepository.findById(budgetId)
+                .ifPresent(budget -> evaluate(budget, budgetSpendRepository.findLimitSpend(budgetId))),
+            budgetId,
+            null
+        ));
+    }
+
+    private void evaluateSafely(Runnable evaluation, UUID budgetId, UUID categoryId) {
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.executeWithoutResult(status -> evaluation.run());
+        } catch (RuntimeException ex) {
+            log.warn("Alert evaluation failed for budgetId={} categoryId={}; continuing", budgetId, categoryId, ex);
         }
+    }
 
-        long limitCents = limitOpt.get().getLimitCents();
-        long spentCents = txnRepository.sumCategoryExpensesByBudget(budgetId, categoryId);
-        if (spentCents <= 0 || limitCents <= 0) {
+    private void evaluate(Budget budget, List<CategoryLimitSpend> limits) {
+        LocalDate today = LocalDate.now();
+        List<ThresholdCrossing> crossings = new ArrayList<>();
+        for (CategoryLimitSpend limit : limits) {
+            if (limit.spentCents() <= 0 || limit.limitCents() <= 0) {
+                continue;
+            }
+
+            double usagePct = (limit.spentCents() * 100.0) / limit.limitCents();
+            for (int threshold : limit.alertThresholds()) {
+                if (usagePct >= threshold) {
+                    crossings.add(new ThresholdCrossing(
+                        limit.categoryId(),
+                        alertTypeFor(threshold),
+                        threshold,
+                        budgetMessageForBudget(limit.categoryName(), budget.getName(), threshold)
+                    ));
+                }
+            }
+            boolean projected = SpendForecast.projectedToExceed(
+                limit.spentCents(),
+                limit.limitCents(),
+                budget.getStartDate(),
+                budget.getEndDate(),
+                today
+            );
+            if (projected) {
+                crossings.add(new ThresholdCrossing(
+                    limit.categoryId(),
+                    AlertType.BUDGET_PROJECTED,
+                    PROJECTED_THRESHOLD_PCT,
+                    limit.categoryName() + " is on pace to exceed your " + budget.getName() + " budget"
+                ));
+            }
+        }
+        if (crossings.isEmpty()) {
             return;
         }
 
-        Budget budget = budgetOpt.get();
-        double usagePct = (spentCents * 100.0) / limitCents;
-        String categoryName = categoryRepository.findById(categoryId)
-            .map(c -> c.getName())
-            .orElse("Category");
-        java.util.Set<UUID> recipients = new java.util.HashSet<>();
+        Set<UUID> recipients = new HashSet<>();
         recipients.add(budget.getOwnerUserId());
-        budgetMemberRepository.findAllByBudgetIdOrderByCreatedAtAsc(budgetId).stream()
+        budgetMemberRepository.findAllByBudgetIdOrderByCreatedAtAsc(budget.getId()).stream()
             .map(m -> m.getUserId())
             .forEach(recipients::add);
 
-        if (usagePct >= 80.0) {
-            for (UUID recipient : recipients) {
-                createBudgetAlertIfAbsentForBudget(
-                    recipient,
-                    budgetId,
-                    categoryId,
-                    budget.getStartDate(),
-                    AlertType.BUDGET_80,
-                    80,
-                    budgetMessageForBudget(categoryName, budget.getName(), 80)
-                );
-            }
-        }
-        if (usagePct >= 100.0) {
-            for (UUID recipient : recipients) {
-                createBudgetAlertIfAbsentForBudget(
-                    recipient,
-                    budgetId,
-                    categoryId,
-                    budget.getStartDate(),
-                    AlertType.BUDGET_100,
-                    100,
-                    budgetMessageForBudget(categoryName, budget.getName(), 100)
-                );
-            }
-        }
+        publishAfterCommit(alertRepository.insertThresholdAlerts(budget.getId(), budget.getStartDate(), recipients, crossings));
     }
 
     @Transactional(readOnly = true)
     public List<AlertResponse> list(UUID userId, boolean unreadOnly, Integer requestedLimit) {
         int limit = requestedLimit == null ? DEFAULT_LIMIT : Math.min(Math.max(requestedLimit, 1), MAX_LIMIT);
         PageRequest page = PageRequest.of(0, limit);
-        List<Alert> alerts = unreadOnly
-            ? alertRepository.findAllByUserIdAndReadAtIsNullOrderByCreatedAtDesc(userId, page)
-            : alertRepository.findAllByUserIdOrderByCreatedAtDesc(userId, page);
-        return alerts.stream().map(this::toResponse).toList();
+        return unreadOnly
+            ? alertRepository.findUnreadResponsesByUserId(userId, page)
+            : alertRepository.findResponsesByUserId(userId, page);
+    }
+
+    @Transactional(readOnly = true)
+    public long countUnread(UUID userId) {
+        return alertRepository.countByUserIdAndReadAtIsNull(userId);
     }
 
     @Transactional
@@ -112,30 +156,39 @@ public class AlertService {
         return toResponse(alert);
     }
 
-    private void createBudgetAlertIfAbsentForBudget(
-        UUID userId,
-        UUID budgetId,
-        UUID categoryId,
-        LocalDate month,
-        AlertType type,
-        int thresholdPct,
-        String message
-    ) {
-        if (alertRepository.existsByUserIdAndTypeAndBudgetIdAndCategoryIdAndThresholdPct(
-            userId, type, budgetId, categoryId, thresholdPct)) {
+    @Transactional
+    public MarkAlertsReadResponse markRead(UUID userId, MarkAlertsReadRequest request) {
+        boolean byIds = request.alertIds() != null;
+        if (byIds == (request.before() != null)) {
+            throw new BadRequestException("Provide exactly one of alertIds or before");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int marked = byIds
+            ? alertRepository.markReadByIds(userId, request.alertIds(), now)
+            : alertRepository.markReadCreatedBefore(userId, request.before(), now);
+        return new MarkAlertsReadResponse(marked);
+    }
+
+    private void publishAfterCommit(List<Alert> alerts) {
+        List<Alert> connected = alerts.stream()
+            .filter(alert -> alertStreamHub.hasSubscribers(alert.getUserId()))
+            .toList();
+        if (connected.isEmpty()) {
             return;
         }
 
-        alertRepository.save(Alert.builder()
-            .id(UUID.randomUUID())
-            .userId(userId)
-            .type(type)
-            .message(message)
-            .budgetId(budgetId)
-            .categoryId(categoryId)
-            .month(month)
-            .thresholdPct(thresholdPct)
-            .build());
+        AfterCommit.run(() -> connected.forEach(alert ->
+            alertStreamHub.publish(List.of(alert.getUserId()), ALERT_EVENT, toResponse(alert))
+        ));
+    }
+
+    private AlertType alertTypeFor(int threshold) {
+        return switch (threshold) {
+            case 80 -> AlertType.BUDGET_80;
+            case 100 -> AlertType.BUDGET_100;
+            default -> AlertType.BUDGET_THRESHOLD;
+        };
     }
 
     private String budgetMessageForBudget(String categoryName, String budgetName, int threshold) {
@@ -0,0 +1,135 @@
+package com.samjenkins.budget_service.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+@Slf4j
+public class AlertStreamHub {
+
+    private final Map<UUID, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    public AlertStreamHub(
+        @Value("${app.alert-stream.timeout:PT30M}") Duration timeout,
+        @Value("${app.alert-stream.queue-capacity:64}") int queueCapacity
+    ) {
+        this.timeoutMillis = timeout.toMillis();
+        this.queueCapacity = queueCapacity;
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        subscribersByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        enqueue(subscriber, SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribersByUser.isEmpty();
+    }
+
+    public boolean hasSubscribers(UUID userId) {
+        return subscribersByUser.containsKey(userId);
+    }
+
+    public void publish(Collection<UUID> userIds, String eventName, Object payload) {
+        Set<DataWithMediaType> event = null;
+        for (UUID userId : userIds) {
+            Set<Subscriber> subscribers = subscribersByUser.get(userId);
+            if (subscribers == null) {
+                continue;
+            }
+            if (event == null) {
+                event = SseEmitter.event().name(eventName).data(payload).build();
+            }
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.alert-stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscribersByUser.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> enqueue(subscriber, event)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        subscribersByUser.clear();
+        senders.shutdownNow();
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue().offer(event)) {
+            // The client is not keeping up; drop the connection and let it reconnect and refetch.
+            log.debug("Closing alert stream for userId={}: {} events pending", subscriber.userId(), queueCapacity);
+            remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> event;
+                while ((event = subscriber.queue().poll()) != null) {
+                    subscriber.emitter().send(event);
+                }
+                subscriber.draining().set(false);
+            } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+        } catch (IOException | IllegalStateException ex) {
+            remove(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByUser.computeIfPresent(subscriber.userId(), (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private record Subscriber(
+        UUID userId,
+        SseEmitter emitter,
+        BlockingQueue<Set<DataWithMediaType>> queue,
+        AtomicBoolean draining
+    ) {
+        Subscriber(UUID userId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this(userId, emitter, queue, new AtomicBoolean());
+        }
+    }
+}
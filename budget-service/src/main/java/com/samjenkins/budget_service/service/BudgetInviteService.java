@@ -14,6 +14,7 @@ import com.samjenkins.budget_service.exception.NotFoundException;
 import com.samjenkins.budget_service.repository.BudgetInviteRepository;
 import com.samjenkins.budget_service.repository.BudgetMemberRepository;
 import com.samjenkins.budget_service.repository.BudgetRepository;
+import com.samjenkins.budget_service.util.UuidV7;
 import jakarta.persistence.EntityManager;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -32,6 +33,8 @@ public class BudgetInviteService {
     private final BudgetRepository budgetRepository;
     private final BudgetInviteRepository budgetInviteRepository;
     private final BudgetMemberRepository budgetMemberRepository;
+    private final BudgetVersionService budgetVersionService;
+    private final AlertService alertService;
     private final EntityManager entityManager;
 
     @Transactional
@@ -43,9 +46,10 @@ public class BudgetInviteService {
 
         int expiryDays = request.expiresInDays() == null ? DEFAULT_EXPIRY_DAYS : request.expiresInDays();
         BudgetInvite invite = BudgetInvite.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .budgetId(budgetId)
             .invitedByUserId(userId)
+            // The token is a bearer secret, so it stays fully random rather than time-ordered.
             .token(UUID.randomUUID())
             .role(request.role())
             .status(BudgetInviteStatus.PENDING)
@@ -60,10 +64,7 @@ public class BudgetInviteService {
     @Transactional(readOnly = true)
     public List<BudgetInviteResponse> list(UUID userId, UUID budgetId, BudgetInviteStatus status) {
         budgetAccessService.requireOwner(userId, budgetId);
-        List<BudgetInvite> invites = status == null
-            ? budgetInviteRepository.findAllByBudgetIdOrderByCreatedAtDesc(budgetId)
-            : budgetInviteRepository.findAllByBudgetIdAndStatusOrderByCreatedAtDesc(budgetId, status);
-        return invites.stream().map(this::toResponse).toList();
+        return budgetInviteRepository.findResponsesByBudgetId(budgetId, status);
     }
 
     @Transactional
@@ -102,11 +103,13 @@ public class BudgetInviteService {
         }
 
         budgetMemberRepository.save(BudgetMember.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .budgetId(invite.getBudgetId())
             .userId(userId)
             .role(invite.getRole())
             .build());
+        budgetVersionService.bump(invite.getBudgetId());
+        alertService.enqueueBudgetEvaluationAfterCommit(invite.getBudgetId());
 
         invite.setStatus(BudgetInviteStatus.ACCEPTED);
         invite.setAcceptedByUserId(userId);
@@ -8,6 +8,7 @@ import com.samjenkins.budget_service.entity.BudgetRole;
 import com.samjenkins.budget_service.exception.BadRequestException;
 import com.samjenkins.budget_service.exception.NotFoundException;
 import com.samjenkins.budget_service.repository.BudgetMemberRepository;
+import com.samjenkins.budget_service.util.UuidV7;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +23,8 @@ public class BudgetMemberService {
 
     private final BudgetAccessService budgetAccessService;
     private final BudgetMemberRepository budgetMemberRepository;
+    private final BudgetVersionService budgetVersionService;
+    private final AlertService alertService;
     private final EntityManager entityManager;
 
     @Transactional
@@ -36,7 +39,7 @@ public class BudgetMemberService {
 
         BudgetMember member = budgetMemberRepository.findByBudgetIdAndUserId(budgetId, request.userId())
             .orElseGet(() -> BudgetMember.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.next())
                 .budgetId(budgetId)
                 .userId(request.userId())
                 .build());
@@ -44,6 +47,8 @@ public class BudgetMemberService {
 
         BudgetMember saved = budgetMemberRepository.saveAndFlush(member);
         entityManager.refresh(saved);
+        budgetVersionService.bump(budgetId);
+        alertService.enqueueBudgetEvaluationAfterCommit(budgetId);
         return toResponse(saved);
     }
 
@@ -68,6 +73,7 @@ public class BudgetMemberService {
         if (deleted == 0L) {
             throw new NotFoundException("Budget member not found");
         }
+        budgetVersionService.bump(budgetId);
     }
 
     private BudgetMemberResponse toResponse(BudgetMember member) {
@@ -0,0 +1,50 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.RolloverProperties;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetRolloverJob {
+
+    private static final int SKIPPED_LOG_LIMIT = 20;
+
+    private final BudgetRolloverService budgetRolloverService;
+    private final RolloverProperties rolloverProperties;
+
+    @Scheduled(cron = "${app.rollover.cron}")
+    public void rollover() {
+        if (!rolloverProperties.enabled()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        int total = 0;
+        int rolled;
+        do {
+            rolled = budgetRolloverService.rolloverBatch(today);
+            total += rolled;
+        } while (rolled > 0);
+
+        if (total > 0) {
+            log.info("Rolled over {} budgets into their next period", total);
+        }
+
+        List<UUID> skipped = budgetRolloverService.findSkipped(today, SKIPPED_LOG_LIMIT);
+        if (!skipped.isEmpty()) {
+            log.warn(
+                "Not rolling over budgets whose next period ended more than {} days ago (first {}): {}",
+                rolloverProperties.catchUpDays(),
+                SKIPPED_LOG_LIMIT,
+                skipped
+            );
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.RolloverProperties;
+import com.samjenkins.budget_service.repository.BudgetRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BudgetRolloverService {
+
+    private final BudgetRepository budgetRepository;
+    private final RolloverProperties rolloverProperties;
+
+    /**
+     * Clones up to one batch of ended ACTIVE budgets (and their category limits and members) into the next
+     * period and archives predecessors whose period is over. Claimed rows are locked with SKIP LOCKED, so
+     * concurrent replicas work on disjoint batches. A missed period is still created when it ended within
+     * the catch-up window, and the following batch rolls it forward again, so a chain catches up one period
+     * per batch.
+     */
+    @Transactional
+    public int rolloverBatch(LocalDate today) {
+        LocalDate through = today.plusDays(rolloverProperties.leadDays());
+        return (int) budgetRepository.rolloverEndedBudgets(
+            today,
+            through,
+            catchUpFrom(today),
+            rolloverProperties.batchSize()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findSkipped(LocalDate today, int limit) {
+        return budgetRepository.findRolloverSkipped(catchUpFrom(today), limit);
+    }
+
+    private LocalDate catchUpFrom(LocalDate today) {
+        return today.minusDays(rolloverProperties.catchUpDays());
+    }
+}
@@ -6,11 +6,11 @@ import com.samjenkins.budget_service.dto.CreateBudgetCategoryLimitRequest;
 import com.samjenkins.budget_service.dto.CreateBudgetRequest;
 import com.samjenkins.budget_service.dto.UpdateBudgetRequest;
 import com.samjenkins.budget_service.dto.UpsertBudgetCategoryLimitRequest;
-import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
 import com.samjenkins.budget_service.entity.BudgetPeriodType;
 import com.samjenkins.budget_service.entity.Budget;
 import com.samjenkins.budget_service.entity.BudgetStatus;
+import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.exception.BadRequestException;
 import com.samjenkins.budget_service.exception.ForbiddenException;
 import com.samjenkins.budget_service.exception.NotFoundException;
@@ -18,6 +18,7 @@ import com.samjenkins.budget_service.repository.CategoryRepository;
 import com.samjenkins.budget_service.repository.TxnRepository;
 import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
 import com.samjenkins.budget_service.repository.BudgetRepository;
+import com.samjenkins.budget_service.util.UuidV7;
 import jakarta.persistence.EntityManager;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -29,25 +30,26 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class BudgetService {
 
     private static final DayOfWeek WEEK_START = DayOfWeek.MONDAY;
+    private static final List<Integer> DEFAULT_ALERT_THRESHOLDS = List.of(80, 100);
 
     private final BudgetRepository budgetRepository;
     private final BudgetCategoryLimitRepository budgetCategoryLimitRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryNameCache categoryNameCache;
     private final TxnRepository txnRepository;
     private final AlertService alertService;
     private final BudgetAccessService budgetAccessService;
+    private final BudgetVersionService budgetVersionService;
+    private final BudgetSummaryService budgetSummaryService;
+    private final BudgetSnapshotService budgetSnapshotService;
     private final EntityManager entityManager;
 
     @Transactional
@@ -55,7 +57,7 @@ public class BudgetService {
         LocalDate endDate = deriveEndDate(request.periodType(), request.startDate());
 
         Budget budget = Budget.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .ownerUserId(userId)
             .name(normalizeName(request.name()))
             .periodType(request.periodType())
@@ -63,6 +65,9 @@ public class BudgetService {
             .endDate(endDate)
             .currency(normalizeCurrency(request.currency()))
             .status(BudgetStatus.ACTIVE)
+            .alertThresholds(request.alertThresholds() == null
+                ? DEFAULT_ALERT_THRESHOLDS
+                : normalizeThresholds(request.alertThresholds()))
             .build();
 
         Budget savedBudget = budgetRepository.saveAndFlush(budget);
@@ -78,14 +83,17 @@ public class BudgetService {
             .toList();
 
         if (!limits.isEmpty()) {
-            budgetCategoryLimitRepository.saveAll(limits);
+            // persist rather than saveAll: assigned ids make Spring Data merge, selecting each row before its insert.
+            limits.forEach(entityManager::persist);
+            alertService.enqueueBudgetEvaluationAfterCommit(savedBudget.getId());
         }
 
         return toBudgetResponse(savedBudget);
     }
 
+    /** Serialized list of the caller's budgets, with archived ones served from their snapshots. */
     @Transactional(readOnly = true)
-    public List<BudgetResponse> list(
+    public byte[] listJson(
         UUID userId,
         BudgetPeriodType periodType,
         BudgetStatus status,
@@ -96,29 +104,30 @@ public class BudgetService {
             throw new BadRequestException("startDateFrom cannot be after startDateTo");
         }
 
-        List<Budget> base = queryPlans(userId, periodType, status);
-        return base.stream()
+        List<Budget> base = queryPlans(userId, periodType, status).stream()
             .filter(plan -> startDateFrom == null || !plan.getStartDate().isBefore(startDateFrom))
             .filter(plan -> startDateTo == null || !plan.getStartDate().isAfter(startDateTo))
-            .map(this::toBudgetResponse)
             .toList();
+        return budgetSnapshotService.budgetsJson(base, this::toBudgetResponse);
     }
 
+    /** Serialized response for a budget the caller has already been authorized to read. */
     @Transactional(readOnly = true)
-    public BudgetResponse get(UUID userId, UUID budgetId) {
-        Budget plan = budgetAccessService.requireReadAccess(userId, budgetId);
-        return toBudgetResponse(plan);
+    public byte[] getJson(Budget plan) {
+        return budgetSnapshotService.budgetJson(plan, () -> toBudgetResponse(plan));
     }
 
     @Transactional
     public BudgetResponse update(UUID userId, UUID budgetId, UpdateBudgetRequest request) {
-        if (request.name() == null && request.status() == null) {
+        if (request.name() == null && request.status() == null && request.alertThresholds() == null) {
             throw new BadRequestException("At least one field must be provided");
         }
 
         Budget plan = budgetAccessService.requireWriteAccessAllowArchived(userId, budgetId);
         if (plan.getStatus() == BudgetStatus.ARCHIVED) {
-            boolean unarchiveOnly = request.name() == null && request.status() == BudgetStatus.ACTIVE;
+            boolean unarchiveOnly = request.name() == null
+                && request.alertThresholds() == null
+                && request.status() == BudgetStatus.ACTIVE;
             if (!unarchiveOnly) {
                 throw new ForbiddenException("Archived budgets are read-only");
             }
@@ -127,13 +136,28 @@ public class BudgetService {
         if (request.name() != null) {
             plan.setName(normalizeName(request.name()));
         }
-        if (request.status() != null) {
+        boolean statusChanged = request.status() != null && request.status() != plan.getStatus();
+        if (statusChanged) {
             plan.setStatus(request.status());
         }
+        if (request.alertThresholds() != null) {
+            plan.setAlertThresholds(normalizeThresholds(request.alertThresholds()));
+        }
 
         Budget saved = budgetRepository.saveAndFlush(plan);
+        budgetVersionService.bump(saved.getId());
         entityManager.refresh(saved);
-        return toBudgetResponse(saved);
+        if (request.alertThresholds() != null) {
+            alertService.enqueueBudgetEvaluationAfterCommit(saved.getId());
+        }
+
+        BudgetResponse response = toBudgetResponse(saved);
+        if (statusChanged && saved.getStatus() == BudgetStatus.ARCHIVED) {
+            budgetSnapshotService.capture(saved, response, budgetSummaryService.summarize(saved));
+        } else if (statusChanged) {
+            budgetSnapshotService.discard(saved.getId());
+        }
+        return response;
     }
 
     @Transactional
@@ -145,12 +169,13 @@ public class BudgetService {
     ) {
         Budget plan = budgetAccessService.requireWriteAccess(userId, budgetId);
 
-        Category category = categoryRepository.findByIdAndUserId(categoryId, plan.getOwnerUserId())
+        String categoryName = categoryRepository.findByIdAndUserId(categoryId, plan.getOwnerUserId())
+            .map(Category::getName)
             .orElseThrow(() -> new NotFoundException("Category not found"));
 
         BudgetCategoryLimit limit = budgetCategoryLimitRepository.findByBudgetIdAndCategoryId(budgetId, categoryId)
             .orElseGet(() -> BudgetCategoryLimit.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.next())
                 .budgetId(budgetId)
                 .userId(plan.getOwnerUserId())
                 .categoryId(categoryId)
@@ -158,10 +183,12 @@ public class BudgetService {
 
         limit.setLimitCents(request.limitCents());
         limit.setColorHex(normalizeColorHex(request.colorHex()));
+        limit.setAlertThresholds(request.alertThresholds() == null ? null : normalizeThresholds(request.alertThresholds()));
 
         BudgetCategoryLimit saved = budgetCategoryLimitRepository.saveAndFlush(limit);
         entityManager.refresh(saved);
-        enqueueAlertEvaluation(plan.getId(), categoryId);
+        budgetVersionService.bump(budgetId);
+        alertService.enqueueBudgetEvaluationAfterCommit(plan.getId());
 
         long spentCents = txnRepository.summarizeBudgetCategoryExpenses(budgetId).stream()
             .filter(row -> categoryId.equals(row.getCategoryId()))
@@ -169,7 +196,7 @@ public class BudgetService {
             .findFirst()
             .orElse(0L);
 
-        return toLimitResponse(saved, category.getName(), spentCents);
+        return toLimitResponse(saved, categoryName, spentCents);
     }
 
     @Transactional
@@ -180,6 +207,8 @@ public class BudgetService {
         if (deleted == 0) {
             throw new NotFoundException("Budget category limit not found");
         }
+        budgetVersionService.bump(budgetId);
+        alertService.enqueueBudgetEvaluationAfterCommit(budgetId);
     }
 
     private List<Budget> queryPlans(UUID userId, BudgetPeriodType periodType, BudgetStatus status) {
@@ -196,11 +225,10 @@ public class BudgetService {
         txnRepository.summarizeBudgetCategoryExpenses(plan.getId())
             .forEach(row -> spentByCategory.put(row.getCategoryId(), row.getSpentCents()));
 
-        Set<UUID> categoryIds = limits.stream().map(BudgetCategoryLimit::getCategoryId).collect(java.util.stream.Collectors.toSet());
-        Map<UUID, String> categoryNames = categoryIds.isEmpty()
-            ? Map.of()
-            : categoryRepository.findAllByIdIn(categoryIds).stream()
-                .collect(java.util.stream.Collectors.toMap(Category::getId, Category::getName));
+        Map<UUID, String> categoryNames = categoryNameCache.namesFor(
+            plan.getOwnerUserId(),
+            limits.stream().map(BudgetCategoryLimit::getCategoryId).toList()
+        );
 
         List<BudgetCategoryLimitResponse> limitResponses = limits.stream()
             .map(limit -> toLimitResponse(
@@ -221,6 +249,7 @@ public class BudgetService {
             plan.getCurrency(),
             plan.getStatus(),
             totalLimit,
+            plan.getAlertThresholds(),
             plan.getCreatedAt(),
             plan.getUpdatedAt(),
             limitResponses
@@ -237,6 +266,7 @@ public class BudgetService {
             categoryName,
             limit.getLimitCents(),
             limit.getColorHex(),
+            limit.getAlertThresholds(),
             spentCents,
             remainingCents,
             utilization,
@@ -251,12 +281,13 @@ public class BudgetService {
         }
 
         return BudgetCategoryLimit.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .budgetId(plan.getId())
             .userId(plan.getOwnerUserId())
             .categoryId(request.categoryId())
             .limitCents(request.limitCents())
             .colorHex(normalizeColorHex(request.colorHex()))
+            .alertThresholds(request.alertThresholds() == null ? null : normalizeThresholds(request.alertThresholds()))
             .build();
     }
 
@@ -299,36 +330,14 @@ public class BudgetService {
         return value;
     }
 
+    private List<Integer> normalizeThresholds(List<Integer> thresholds) {
+        return thresholds.stream().distinct().sorted().toList();
+    }
+
     private String normalizeColorHex(String colorHex) {
         if (colorHex == null || colorHex.isBlank()) {
             return null;
         }
         return colorHex.toUpperCase(Locale.ROOT);
     }
-
-    private void enqueueAlertEvaluation(UUID budgetId, UUID categoryId) {
-        Runnable task = () -> {
-            try {
-                alertService.evaluateBudgetThresholdsForBudget(budgetId, categoryId);
-            } catch (RuntimeException ex) {
-                log.warn(
-                    "Alert evaluation failed for budgetId={} categoryId={} during category limit upsert; continuing",
-                    budgetId,
-                    categoryId,
-                    ex
-                );
-            }
-        };
-
-        if (TransactionSynchronizationManager.isActualTransactionActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    task.run();
-                }
-            });
-        } else {
-            task.run();
-        }
-    }
 }
@@ -0,0 +1,88 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.dto.BudgetResponse;
+import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
+import com.samjenkins.budget_service.entity.Budget;
+import com.samjenkins.budget_service.entity.BudgetStatus;
+import com.samjenkins.budget_service.repository.BudgetSnapshotRepository;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Archived budgets are read-only, so their budget and summary responses are serialized once at archival
+ * and served as stored bytes. Budgets archived before snapshots existed fall back to live aggregation.
+ */
+@Service
+@RequiredArgsConstructor
+public class BudgetSnapshotService {
+
+    private final BudgetSnapshotRepository budgetSnapshotRepository;
+    private final JsonMapper jsonMapper;
+
+    public void capture(Budget budget, BudgetResponse response, BudgetSummaryResponse summary) {
+        budgetSnapshotRepository.upsert(
+            budget.getId(),
+            budget.getVersion(),
+            jsonMapper.writeValueAsBytes(response),
+            jsonMapper.writeValueAsBytes(summary)
+        );
+    }
+
+    public void discard(UUID budgetId) {
+        budgetSnapshotRepository.delete(budgetId);
+    }
+
+    public byte[] budgetJson(Budget budget, Supplier<BudgetResponse> live) {
+        if (budget.getStatus() == BudgetStatus.ARCHIVED) {
+            var snapshot = budgetSnapshotRepository.findBudgetJson(budget.getId(), budget.getVersion());
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        return jsonMapper.writeValueAsBytes(live.get());
+    }
+
+    public byte[] summaryJson(Budget budget, Supplier<BudgetSummaryResponse> live) {
+        if (budget.getStatus() == BudgetStatus.ARCHIVED) {
+            var snapshot = budgetSnapshotRepository.findSummaryJson(budget.getId(), budget.getVersion());
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        return jsonMapper.writeValueAsBytes(live.get());
+    }
+
+    /**
+     * JSON array of {@code budgets} in order. Snapshots of the archived ones are fetched in one query and
+     * copied in as stored bytes; the rest are serialized from {@code live}.
+     */
+    public byte[] budgetsJson(List<Budget> budgets, Function<Budget, BudgetResponse> live) {
+        List<Budget> archived = budgets.stream()
+            .filter(budget -> budget.getStatus() == BudgetStatus.ARCHIVED)
+            .toList();
+        Map<UUID, byte[]> snapshots = budgetSnapshotRepository.findBudgetJson(
+            archived.stream().map(Budget::getId).toList(),
+            archived.stream().map(Budget::getVersion).toList()
+        );
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        for (int i = 0; i < budgets.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Budget budget = budgets.get(i);
+            byte[] json = snapshots.get(budget.getId());
+            out.writeBytes(json != null ? json : jsonMapper.writeValueAsBytes(live.apply(budget)));
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+}
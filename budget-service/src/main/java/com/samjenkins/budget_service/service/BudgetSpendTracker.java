@@ -0,0 +1,114 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.entity.Txn;
+import com.samjenkins.budget_service.repository.BudgetSpendRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the running spend tables in step with transaction writes. Callers pass the transaction's
+ * contribution before and after the write, inside the same database transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BudgetSpendTracker {
+
+    private final BudgetSpendRepository budgetSpendRepository;
+
+    public void record(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (after != null) {
+            apply(after, 1);
+        }
+    }
+
+    /**
+     * Applies a batch of writes with one upsert per category and per (day, category) rather than per row.
+     * {@code removed} holds the contributions the rows had before the write, {@code added} the ones after.
+     */
+    public void recordAll(Collection<Contribution> removed, Collection<Contribution> added) {
+        Map<CategoryKey, Long> spentByCategory = new HashMap<>();
+        Map<DayKey, long[]> totalsByDay = new HashMap<>();
+        accumulate(removed, -1, spentByCategory, totalsByDay);
+        accumulate(added, 1, spentByCategory, totalsByDay);
+
+        spentByCategory.forEach((key, spent) -> {
+            if (spent != 0L) {
+                budgetSpendRepository.addCategorySpend(key.budgetId(), key.categoryId(), spent);
+            }
+        });
+        totalsByDay.forEach((key, totals) -> {
+            if (totals[0] != 0L || totals[1] != 0L) {
+                budgetSpendRepository.addDailySpend(key.budgetId(), key.categoryId(), key.day(), totals[0], totals[1]);
+            }
+        });
+    }
+
+    private void accumulate(
+        Collection<Contribution> contributions,
+        int sign,
+        Map<CategoryKey, Long> spentByCategory,
+        Map<DayKey, long[]> totalsByDay
+    ) {
+        for (Contribution contribution : contributions) {
+            if (contribution.budgetId() == null) {
+                continue;
+            }
+            long spent = contribution.amountCents() < 0 ? -contribution.amountCents() : 0L;
+            long income = contribution.amountCents() > 0 ? contribution.amountCents() : 0L;
+            if (contribution.isCategorizedExpense()) {
+                spentByCategory.merge(new CategoryKey(contribution.budgetId(), contribution.categoryId()), sign * spent, Long::sum);
+            }
+            long[] totals = totalsByDay.computeIfAbsent(
+                new DayKey(contribution.budgetId(), contribution.categoryId(), contribution.transactionDate()),
+                key -> new long[2]
+            );
+            totals[0] += sign * spent;
+            totals[1] += sign * income;
+        }
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        if (contribution.budgetId() == null) {
+            return;
+        }
+        long spent = contribution.amountCents() < 0 ? -contribution.amountCents() : 0L;
+        long income = contribution.amountCents() > 0 ? contribution.amountCents() : 0L;
+        if (contribution.isCategorizedExpense()) {
+            budgetSpendRepository.addCategorySpend(contribution.budgetId(), contribution.categoryId(), sign * spent);
+        }
+        budgetSpendRepository.addDailySpend(
+            contribution.budgetId(),
+            contribution.categoryId(),
+            contribution.transactionDate(),
+            sign * spent,
+            sign * income
+        );
+    }
+
+    private record CategoryKey(UUID budgetId, UUID categoryId) {}
+
+    private record DayKey(UUID budgetId, UUID categoryId, LocalDate day) {}
+
+    public record Contribution(UUID budgetId, UUID categoryId, long amountCents, LocalDate transactionDate) {
+
+        public static Contribution of(Txn txn) {
+            return new Contribution(txn.getBudgetId(), txn.getCategoryId(), txn.getAmountCents(), txn.getTransactionDate());
+        }
+
+        boolean isCategorizedExpense() {
+            return budgetId != null && categoryId != null && amountCents < 0;
+        }
+    }
+}
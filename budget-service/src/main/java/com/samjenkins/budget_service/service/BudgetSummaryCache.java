@@ -0,0 +1,78 @@
+package com.samjenkins.budget_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samjenkins.budget_service.config.AfterCommit;
+import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BudgetSummaryCache {
+
+    private final Cache<UUID, Entry> cache;
+
+    public BudgetSummaryCache(@Value("${app.summary-cache.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    public BudgetSummaryResponse getIfCurrent(UUID budgetId, long version) {
+        Entry entry = cache.getIfPresent(budgetId);
+        return entry != null && entry.version() >= version ? entry.loaded() : null;
+    }
+
+    /**
+     * Concurrent readers of the same stale budget share one aggregation per version: the first installs a
+     * pending entry and loads outside any map lock, later ones wait on its future. A failed load is
+     * removed so the next reader retries, and waiters fall back to loading themselves.
+     */
+    public BudgetSummaryResponse get(UUID budgetId, long version, Supplier<BudgetSummaryResponse> loader) {
+        Entry mine = new Entry(version, new CompletableFuture<>());
+        Entry current = cache.asMap().compute(budgetId, (id, existing) ->
+            existing != null && existing.version() >= version ? existing : mine
+        );
+        if (current != mine) {
+            try {
+                return current.summary().join();
+            } catch (CompletionException | CancellationException ex) {
+                return loader.get();
+            }
+        }
+
+        try {
+            BudgetSummaryResponse summary = loader.get();
+            mine.summary().complete(summary);
+            return summary;
+        } catch (RuntimeException | Error ex) {
+            cache.asMap().remove(budgetId, mine);
+            mine.summary().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public void put(UUID budgetId, long version, BudgetSummaryResponse summary) {
+        cache.asMap().merge(budgetId, new Entry(version, CompletableFuture.completedFuture(summary)), (existing, candidate) ->
+            existing.version() >= candidate.version() ? existing : candidate
+        );
+    }
+
+    public void evictAfterCommit(UUID budgetId) {
+        cache.invalidate(budgetId);
+        AfterCommit.run(() -> cache.invalidate(budgetId));
+    }
+
+    private record Entry(long version, CompletableFuture<BudgetSummaryResponse> summary) {
+
+        /** The summary if loading has finished successfully, otherwise null. */
+        BudgetSummaryResponse loaded() {
+            return summary.isDone() && !summary.isCompletedExceptionally() ? summary.join() : null;
+        }
+    }
+}
@@ -2,16 +2,19 @@ package com.samjenkins.budget_service.service;
 
 import com.samjenkins.budget_service.dto.BudgetSummaryCategoryResponse;
 import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
-import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
 import com.samjenkins.budget_service.entity.Budget;
-import com.samjenkins.budget_service.repository.CategoryRepository;
+import com.samjenkins.budget_service.entity.BudgetStatus;
+import com.samjenkins.budget_service.repository.BudgetRepository;
 import com.samjenkins.budget_service.repository.TxnRepository;
 import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
+import com.samjenkins.budget_service.repository.projection.BudgetTotalsProjection;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,28 +25,93 @@ public class BudgetSummaryService {
 
     private static final String UNCATEGORIZED = "Uncategorized";
 
+    private final BudgetRepository budgetRepository;
     private final BudgetCategoryLimitRepository budgetCategoryLimitRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryNameCache categoryNameCache;
     private final TxnRepository txnRepository;
-    private final BudgetAccessService budgetAccessService;
+    private final BudgetSummaryCache budgetSummaryCache;
+    private final BudgetSnapshotService budgetSnapshotService;
 
+    /** Serialized summary for a budget the caller has already been authorized to read. */
     @Transactional(readOnly = true)
-    public BudgetSummaryResponse summarize(UUID userId, UUID budgetId) {
-        Budget budget = budgetAccessService.requireReadAccess(userId, budgetId);
-
-        List<BudgetCategoryLimit> limits = budgetCategoryLimitRepository.findAllByBudgetIdOrderByCreatedAtAsc(budgetId);
-        Map<UUID, Long> spentByCategory = txnRepository.summarizeBudgetCategoryExpenses(budgetId).stream()
-            .collect(java.util.stream.Collectors.toMap(
-                row -> row.getCategoryId(),
-                row -> row.getSpentCents(),
-                (left, right) -> right
-            ));
+    public byte[] summarizeJson(Budget budget) {
+        return budgetSnapshotService.summaryJson(budget, () ->
+            budgetSummaryCache.get(budget.getId(), budget.getVersion(), () -> summarize(budget)));
+    }
+
+    /** Aggregates without an access check; callers have already authorized the budget. */
+    public BudgetSummaryResponse summarize(Budget budget) {
+        return summarizeAll(List.of(budget)).get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BudgetSummaryResponse> summarizeActive(UUID userId) {
+        List<Budget> budgets = budgetRepository.findAllAccessibleByUserIdAndStatusOrderByStartDateDesc(userId, BudgetStatus.ACTIVE);
+
+        Map<UUID, BudgetSummaryResponse> summaries = new HashMap<>();
+        List<Budget> misses = new ArrayList<>();
+        for (Budget budget : budgets) {
+            BudgetSummaryResponse cached = budgetSummaryCache.getIfCurrent(budget.getId(), budget.getVersion());
+            if (cached == null) {
+                misses.add(budget);
+            } else {
+                summaries.put(budget.getId(), cached);
+            }
+        }
+
+        List<BudgetSummaryResponse> loaded = summarizeAll(misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Budget budget = misses.get(i);
+            budgetSummaryCache.put(budget.getId(), budget.getVersion(), loaded.get(i));
+            summaries.put(budget.getId(), loaded.get(i));
+        }
+
+        return budgets.stream().map(budget -> summaries.get(budget.getId())).toList();
+    }
+
+    private List<BudgetSummaryResponse> summarizeAll(List<Budget> budgets) {
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
 
-        Map<UUID, String> categoryNames = categoryRepository.findAllByIdIn(
-                limits.stream().map(BudgetCategoryLimit::getCategoryId).toList())
-            .stream()
-            .collect(java.util.stream.Collectors.toMap(Category::getId, Category::getName));
+        List<UUID> budgetIds = budgets.stream().map(Budget::getId).toList();
+        Map<UUID, List<BudgetCategoryLimit>> limitsByBudget = budgetCategoryLimitRepository
+            .findAllByBudgetIdInOrderByCreatedAtAsc(budgetIds).stream()
+            .collect(Collectors.groupingBy(BudgetCategoryLimit::getBudgetId));
+
+        Map<UUID, Map<UUID, Long>> spentByBudget = new HashMap<>();
+        txnRepository.summarizeCategoryExpensesByBudgetIds(budgetIds)
+            .forEach(row -> spentByBudget
+                .computeIfAbsent(row.getBudgetId(), id -> new HashMap<>())
+                .put(row.getCategoryId(), row.getSpentCents()));
+
+        Map<UUID, BudgetTotalsProjection> totalsByBudget = txnRepository.summarizeTotalsByBudgetIds(budgetIds).stream()
+            .collect(Collectors.toMap(BudgetTotalsProjection::getBudgetId, row -> row));
+
+        return budgets.stream()
+            .map(budget -> {
+                List<BudgetCategoryLimit> limits = limitsByBudget.getOrDefault(budget.getId(), List.of());
+                return toSummary(
+                    budget,
+                    limits,
+                    spentByBudget.getOrDefault(budget.getId(), Map.of()),
+                    totalsByBudget.get(budget.getId()),
+                    categoryNameCache.namesFor(
+                        budget.getOwnerUserId(),
+                        limits.stream().map(BudgetCategoryLimit::getCategoryId).toList()
+                    )
+                );
+            })
+            .toList();
+    }
 
+    private BudgetSummaryResponse toSummary(
+        Budget budget,
+        List<BudgetCategoryLimit> limits,
+        Map<UUID, Long> spentByCategory,
+        BudgetTotalsProjection totals,
+        Map<UUID, String> categoryNames
+    ) {
         List<BudgetSummaryCategoryResponse> categories = new ArrayList<>();
         long totalLimitCents = 0L;
         long categorizedSpentCents = 0L;
@@ -67,7 +135,7 @@ public class BudgetSummaryService {
             categorizedSpentCents += spent;
         }
 
-        long uncategorizedSpent = txnRepository.sumUncategorizedExpensesByBudget(budgetId);
+        long uncategorizedSpent = totals == null ? 0L : totals.getUncategorizedExpenseCents();
         if (uncategorizedSpent > 0) {
             categories.add(new BudgetSummaryCategoryResponse(
                 null,
@@ -84,8 +152,8 @@ public class BudgetSummaryService {
         long totalRemainingCents = totalLimitCents - totalSpentCents;
         Double utilizationPct = totalLimitCents <= 0 ? null : (totalSpentCents * 100.0) / totalLimitCents;
 
-        long incomeCents = txnRepository.sumIncomeByBudget(budgetId);
-        long expenseCents = txnRepository.sumExpensesByBudget(budgetId);
+        long incomeCents = totals == null ? 0L : totals.getIncomeCents();
+        long expenseCents = totals == null ? 0L : totals.getExpenseCents();
 
         return new BudgetSummaryResponse(
             budget.getId(),
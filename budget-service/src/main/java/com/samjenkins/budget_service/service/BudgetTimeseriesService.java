@@ -0,0 +1,51 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.dto.BudgetTimeseriesPointResponse;
+import com.samjenkins.budget_service.dto.BudgetTimeseriesResponse;
+import com.samjenkins.budget_service.entity.Budget;
+import com.samjenkins.budget_service.repository.BudgetSpendRepository;
+import com.samjenkins.budget_service.repository.DailySpend;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BudgetTimeseriesService {
+
+    private final BudgetSpendRepository budgetSpendRepository;
+
+    /** Daily series for a budget the caller has already been authorized to read. */
+    @Transactional(readOnly = true)
+    public BudgetTimeseriesResponse daily(Budget budget, UUID categoryId) {
+        UUID budgetId = budget.getId();
+        LocalDate start = budget.getStartDate();
+        LocalDate end = budget.getEndDate();
+
+        List<DailySpend> rows = categoryId == null
+            ? budgetSpendRepository.findDailySpend(budgetId, start, end)
+            : budgetSpendRepository.findDailySpend(budgetId, categoryId, start, end);
+        Map<LocalDate, DailySpend> byDay = rows.stream().collect(Collectors.toMap(DailySpend::day, row -> row));
+
+        // Every day of the period gets a point so charts need no gap filling.
+        List<BudgetTimeseriesPointResponse> points = new ArrayList<>();
+        long cumulativeSpent = 0L;
+        long cumulativeIncome = 0L;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            DailySpend row = byDay.get(day);
+            long spent = row == null ? 0L : row.spentCents();
+            long income = row == null ? 0L : row.incomeCents();
+            cumulativeSpent += spent;
+            cumulativeIncome += income;
+            points.add(new BudgetTimeseriesPointResponse(day, spent, income, cumulativeSpent, cumulativeIncome));
+        }
+
+        return new BudgetTimeseriesResponse(budgetId, categoryId, start, end, points);
+    }
+}
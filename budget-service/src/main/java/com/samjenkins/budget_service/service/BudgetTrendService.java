@@ -0,0 +1,67 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.dto.CategoryTrendPointResponse;
+import com.samjenkins.budget_service.dto.CategoryTrendResponse;
+import com.samjenkins.budget_service.dto.CategoryTrendsResponse;
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import com.samjenkins.budget_service.entity.BudgetStatus;
+import com.samjenkins.budget_service.repository.BudgetTrendRepository;
+import com.samjenkins.budget_service.repository.CategoryTrendRow;
+import com.samjenkins.budget_service.repository.PeriodCategoryTotal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BudgetTrendService {
+
+    private static final int DEFAULT_PERIODS = 12;
+    private static final int MAX_PERIODS = 52;
+
+    private final BudgetTrendRepository budgetTrendRepository;
+    private final ClosedPeriodTotalsCache closedPeriodTotalsCache;
+    private final CategoryNameCache categoryNameCache;
+
+    @Transactional(readOnly = true)
+    public CategoryTrendsResponse categoryTrends(UUID userId, BudgetPeriodType periodType, Integer requestedPeriods) {
+        int periods = requestedPeriods == null ? DEFAULT_PERIODS : Math.min(Math.max(requestedPeriods, 1), MAX_PERIODS);
+
+        // Stamp first: an archive landing between the two reads then only costs a reload on the next request.
+        List<PeriodCategoryTotal> totals = new ArrayList<>(closedPeriodTotalsCache.get(
+            userId,
+            periodType,
+            budgetTrendRepository.archivedStamp(userId, periodType),
+            () -> budgetTrendRepository.findPeriodTotals(userId, periodType, BudgetStatus.ARCHIVED)
+        ));
+        totals.addAll(budgetTrendRepository.findPeriodTotals(userId, periodType, BudgetStatus.ACTIVE));
+
+        Map<UUID, List<CategoryTrendPointResponse>> pointsByCategory = new LinkedHashMap<>();
+        for (CategoryTrendRow row : budgetTrendRepository.computeTrends(totals, periods)) {
+            pointsByCategory.computeIfAbsent(row.categoryId(), id -> new ArrayList<>()).add(new CategoryTrendPointResponse(
+                row.startDate(),
+                row.endDate(),
+                row.closed(),
+                row.spentCents(),
+                row.averageCents(),
+                row.trailingAverageCents(),
+                row.deltaCents()
+            ));
+        }
+
+        Map<UUID, String> categoryNames = categoryNameCache.namesFor(userId, pointsByCategory.keySet());
+        List<CategoryTrendResponse> categories = pointsByCategory.entrySet().stream()
+            .map(entry -> new CategoryTrendResponse(
+                entry.getKey(),
+                categoryNames.getOrDefault(entry.getKey(), "Category"),
+                entry.getValue()
+            ))
+            .toList();
+        return new CategoryTrendsResponse(periodType, categories);
+    }
+}
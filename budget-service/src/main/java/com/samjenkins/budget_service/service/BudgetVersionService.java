@@ -0,0 +1,68 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.AfterCommit;
+import com.samjenkins.budget_service.dto.BudgetChangedEvent;
+import com.samjenkins.budget_service.entity.Budget;
+import com.samjenkins.budget_service.entity.BudgetMember;
+import com.samjenkins.budget_service.repository.BudgetMemberRepository;
+import com.samjenkins.budget_service.repository.BudgetRepository;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetVersionService {
+
+    static final String BUDGET_CHANGED_EVENT = "budget-changed";
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetMemberRepository budgetMemberRepository;
+    private final BudgetAccessService budgetAccessService;
+    private final BudgetSummaryCache budgetSummaryCache;
+    private final AlertStreamHub alertStreamHub;
+
+    @Transactional
+    public void bump(UUID budgetId) {
+        if (budgetId == null) {
+            return;
+        }
+        budgetRepository.incrementVersion(budgetId);
+        budgetSummaryCache.evictAfterCommit(budgetId);
+        if (alertStreamHub.hasSubscribers()) {
+            AfterCommit.run(() -> publishBudgetChanged(budgetId));
+        }
+    }
+
+    /**
+     * Checks read access once and returns the budget with its ETag, so conditional GETs can answer 304 or
+     * build the body from the same budget without a second access check.
+     */
+    @Transactional(readOnly = true)
+    public ReadableBudget readable(UUID userId, UUID budgetId) {
+        Budget budget = budgetAccessService.requireReadAccess(userId, budgetId);
+        return new ReadableBudget(budget, "\"" + budget.getId() + "-" + budget.getVersion() + "\"");
+    }
+
+    private void publishBudgetChanged(UUID budgetId) {
+        try {
+            budgetRepository.findById(budgetId).ifPresent(budget -> {
+                Set<UUID> recipients = new HashSet<>();
+                recipients.add(budget.getOwnerUserId());
+                budgetMemberRepository.findAllByBudgetIdOrderByCreatedAtAsc(budgetId).stream()
+                    .map(BudgetMember::getUserId)
+                    .forEach(recipients::add);
+                alertStreamHub.publish(recipients, BUDGET_CHANGED_EVENT, new BudgetChangedEvent(budgetId));
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Budget change event failed for budgetId={}; continuing", budgetId, ex);
+        }
+    }
+
+    public record ReadableBudget(Budget budget, String etag) {}
+}
@@ -0,0 +1,396 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * One user's categorization rules compiled for matching merchants. CONTAINS patterns share a single
+ * Aho-Corasick automaton and PREFIX patterns a trie, so a merchant is scanned once regardless of how many
+ * rules there are; regexes are only tried when they could beat the best literal match. Rules are
+ * expected in priority order and the first rule (lowest index) that matches both merchant and amount wins.
+ * Immutable and safe to share between threads.
+ */
+public final class CategorizationMatcher {
+
+    static final CategorizationMatcher EMPTY = compile(List.of());
+
+    /** Character reads one regex may spend on one merchant; benign patterns need a few per character. */
+    static final int MAX_REGEX_STEPS = 100_000;
+
+    private final UUID[] categoryIds;
+    private final long[] minAmounts;
+    private final long[] maxAmounts;
+    private final Automaton contains;
+    private final Automaton prefixes;
+    private final int[] regexRules;
+    private final Pattern[] regexes;
+
+    private CategorizationMatcher(List<CategorizationRule> rules) {
+        int size = rules.size();
+        categoryIds = new UUID[size];
+        minAmounts = new long[size];
+        maxAmounts = new long[size];
+
+        List<String> containsPatterns = new ArrayList<>();
+        List<Integer> containsRules = new ArrayList<>();
+        List<String> prefixPatterns = new ArrayList<>();
+        List<Integer> prefixRules = new ArrayList<>();
+        List<Integer> regexRuleList = new ArrayList<>();
+        List<Pattern> regexList = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            CategorizationRule rule = rules.get(i);
+            categoryIds[i] = rule.getCategoryId();
+            minAmounts[i] = rule.getMinAmountCents() == null ? Long.MIN_VALUE : rule.getMinAmountCents();
+            maxAmounts[i] = rule.getMaxAmountCents() == null ? Long.MAX_VALUE : rule.getMaxAmountCents();
+            switch (rule.getMatchType()) {
+                case CONTAINS -> {
+                    containsPatterns.add(rule.getPattern());
+                    containsRules.add(i);
+                }
+                case PREFIX -> {
+                    prefixPatterns.add(rule.getPattern());
+                    prefixRules.add(i);
+                }
+                case REGEX -> {
+                    regexList.add(compileRegex(rule.getPattern()));
+                    regexRuleList.add(i);
+                }
+            }
+        }
+
+        contains = Automaton.build(containsPatterns, containsRules, false);
+        prefixes = Automaton.build(prefixPatterns, prefixRules, true);
+        regexRules = regexRuleList.stream().mapToInt(Integer::intValue).toArray();
+        regexes = regexList.toArray(Pattern[]::new);
+    }
+
+    public static CategorizationMatcher compile(List<CategorizationRule> rules) {
+        return new CategorizationMatcher(rules);
+    }
+
+    public static Pattern compileRegex(String pattern) {
+        return Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * Rejects the constructs behind catastrophic backtracking: backreferences and a repeated group that
+     * itself contains a repetition, such as {@code (a+)+}. Matching still runs under a step budget for
+     * anything this check misses, e.g. overlapping alternatives like {@code (a|aa)+}.
+     *
+     * @throws IllegalArgumentException naming the offending construct
+     */
+    public static void checkRegexSafety(String pattern) {
+        // One entry per open group: whether anything inside it repeats.
+        ArrayDeque<Boolean> groups = new ArrayDeque<>();
+        boolean repeatingGroupBefore = false;
+        boolean quantifierBefore = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (quantifierBefore && (c == '?' || c == '+')) {
+                // Lazy or possessive modifier of the previous quantifier, not a quantifier of its own.
+                quantifierBefore = false;
+                continue;
+            }
+            quantifierBefore = false;
+            boolean closesRepeatingGroup = false;
+            switch (c) {
+                case '\\' -> {
+                    char next = i + 1 < pattern.length() ? pattern.charAt(i + 1) : ' ';
+                    if ((next >= '1' && next <= '9') || next == 'k') {
+                        throw new IllegalArgumentException("must not use backreferences");
+                    }
+                    i++;
+                }
+                case '[' -> i = endOfClass(pattern, i);
+                case '(' -> {
+                    groups.push(false);
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '?') {
+                        i++;
+                    }
+                }
+                case ')' -> {
+                    closesRepeatingGroup = !groups.isEmpty() && groups.pop();
+                    if (closesRepeatingGroup && !groups.isEmpty()) {
+                        groups.pop();
+                        groups.push(true);
+                    }
+                }
+                case '*', '+', '?', '{' -> {
+                    if (c == '{') {
+                        int close = pattern.indexOf('}', i);
+                        i = close < 0 ? pattern.length() : close;
+                    }
+                    if (c != '?') {
+                        if (repeatingGroupBefore) {
+                            throw new IllegalArgumentException("must not repeat a group that already repeats");
+                        }
+                        if (!groups.isEmpty()) {
+                            groups.pop();
+                            groups.push(true);
+                        }
+                    }
+                    quantifierBefore = true;
+                }
+                default -> {
+                }
+            }
+            repeatingGroupBefore = closesRepeatingGroup;
+        }
+    }
+
+    private static int endOfClass(String pattern, int open) {
+        int depth = 0;
+        for (int i = open; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && i > open + 1 && --depth == 0) {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+
+    public boolean isEmpty() {
+        return categoryIds.length == 0;
+    }
+
+    /** Returns the category of the first matching rule, or null when none match. */
+    public UUID match(String merchant, long amountCents) {
+        if (isEmpty() || merchant == null) {
+            return null;
+        }
+
+        int best = Integer.MAX_VALUE;
+
+        int state = 0;
+        for (int i = 0; i < merchant.length(); i++) {
+            state = contains.next(state, merchant.charAt(i));
+            best = firstAccepted(contains.outputs[state], amountCents, best);
+        }
+
+        state = 0;
+        for (int i = 0; i < merchant.length() && state >= 0; i++) {
+            state = prefixes.next(state, merchant.charAt(i));
+            if (state >= 0) {
+                best = firstAccepted(prefixes.outputs[state], amountCents, best);
+            }
+        }
+
+        for (int i = 0; i < regexRules.length && regexRules[i] < best; i++) {
+            if (accepts(regexRules[i], amountCents) && find(regexes[i], merchant)) {
+                best = regexRules[i];
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? null : categoryIds[best];
+    }
+
+    /** A regex that exhausts its step budget on this merchant counts as not matching. */
+    private static boolean find(Pattern regex, String merchant) {
+        try {
+            return regex.matcher(new BudgetedCharSequence(merchant, MAX_REGEX_STEPS)).find();
+        } catch (StepBudgetExceeded ex) {
+            return false;
+        }
+    }
+
+    private int firstAccepted(int[] ruleIndexes, long amountCents, int best) {
+        for (int rule : ruleIndexes) {
+            if (rule >= best) {
+                break;
+            }
+            if (accepts(rule, amountCents)) {
+                return rule;
+            }
+        }
+        return best;
+    }
+
+    private boolean accepts(int rule, long amountCents) {
+        return amountCents >= minAmounts[rule] && amountCents <= maxAmounts[rule];
+    }
+
+    /**
+     * Counts character reads made by the regex engine and aborts the match once the budget is spent, which
+     * bounds backtracking on patterns that slipped past {@link #checkRegexSafety}. One instance per match.
+     */
+    private static final class BudgetedCharSequence implements CharSequence {
+
+        private final String value;
+        private int remaining;
+
+        BudgetedCharSequence(String value, int budget) {
+            this.value = value;
+            this.remaining = budget;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remaining < 0) {
+                throw StepBudgetExceeded.INSTANCE;
+            }
+            return value.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return value.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
+
+    private static final class StepBudgetExceeded extends RuntimeException {
+
+        static final StepBudgetExceeded INSTANCE = new StepBudgetExceeded();
+
+        private StepBudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Case-insensitive automaton over a dense transition table. Characters that occur in no pattern share
+     * class 0. Unanchored automata are completed into a DFA (failure links folded into the table, outputs
+     * merged along them); anchored ones are plain tries where -1 means no pattern continues.
+     */
+    private static final class Automaton {
+
+        private static final int[] NO_RULES = new int[0];
+
+        private final int[] asciiClasses;
+        private final Map<Character, Integer> otherClasses;
+        private final int width;
+        private final int[] transitions;
+        private final int[][] outputs;
+
+        private Automaton(
+            int[] asciiClasses,
+            Map<Character, Integer> otherClasses,
+            int width,
+            int[] transitions,
+            int[][] outputs
+        ) {
+            this.asciiClasses = asciiClasses;
+            this.otherClasses = otherClasses;
+            this.width = width;
+            this.transitions = transitions;
+            this.outputs = outputs;
+        }
+
+        int next(int state, char c) {
+            return transitions[state * width + classOf(Character.toLowerCase(c))];
+        }
+
+        private int classOf(char c) {
+            if (c < 128) {
+                return asciiClasses[c];
+            }
+            return otherClasses.getOrDefault(c, 0);
+        }
+
+        static Automaton build(List<String> patterns, List<Integer> rules, boolean anchored) {
+            int[] asciiClasses = new int[128];
+            Map<Character, Integer> otherClasses = new HashMap<>();
+            int classes = 1;
+            int maxNodes = 1;
+            for (String pattern : patterns) {
+                maxNodes += pattern.length();
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = Character.toLowerCase(pattern.charAt(i));
+                    if (c < 128) {
+                        if (asciiClasses[c] == 0) {
+                            asciiClasses[c] = classes++;
+                        }
+                    } else if (!otherClasses.containsKey(c)) {
+                        otherClasses.put(c, classes++);
+                    }
+                }
+            }
+
+            int width = classes;
+            int[] transitions = new int[maxNodes * width];
+            Arrays.fill(transitions, -1);
+            List<List<Integer>> nodeRules = new ArrayList<>();
+            nodeRules.add(new ArrayList<>());
+            Automaton trie = new Automaton(asciiClasses, otherClasses, width, transitions, null);
+
+            for (int p = 0; p < patterns.size(); p++) {
+                String pattern = patterns.get(p);
+                int node = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    int slot = node * width + trie.classOf(Character.toLowerCase(pattern.charAt(i)));
+                    if (transitions[slot] < 0) {
+                        transitions[slot] = nodeRules.size();
+                        nodeRules.add(new ArrayList<>());
+                    }
+                    node = transitions[slot];
+                }
+                nodeRules.get(node).add(rules.get(p));
+            }
+
+            int nodes = nodeRules.size();
+            if (!anchored) {
+                int[] failure = new int[nodes];
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                for (int c = 0; c < width; c++) {
+                    int child = transitions[c];
+                    if (child < 0) {
+                        transitions[c] = 0;
+                    } else {
+                        failure[child] = 0;
+                        queue.add(child);
+                    }
+                }
+                while (!queue.isEmpty()) {
+                    int node = queue.poll();
+                    nodeRules.get(node).addAll(nodeRules.get(failure[node]));
+                    for (int c = 0; c < width; c++) {
+                        int slot = node * width + c;
+                        int fallback = transitions[failure[node] * width + c];
+                        if (transitions[slot] < 0) {
+                            transitions[slot] = fallback;
+                        } else {
+                            failure[transitions[slot]] = fallback;
+                            queue.add(transitions[slot]);
+                        }
+                    }
+                }
+            }
+
+            int[][] outputs = new int[nodes][];
+            for (int n = 0; n < nodes; n++) {
+                List<Integer> matched = nodeRules.get(n);
+                outputs[n] = matched.isEmpty()
+                    ? NO_RULES
+                    : matched.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+            }
+            return new Automaton(
+                asciiClasses,
+                otherClasses,
+                width,
+                Arrays.copyOf(transitions, nodes * width),
+                outputs
+            );
+        }
+    }
+}
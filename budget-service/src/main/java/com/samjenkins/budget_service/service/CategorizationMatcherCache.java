@@ -0,0 +1,47 @@
+package com.samjenkins.budget_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samjenkins.budget_service.config.AfterCommit;
+import com.samjenkins.budget_service.repository.CategorizationRuleRepository;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiled categorization rules per user. Rules only change through CategorizationRuleService, which
+ * evicts the user's matcher, and entries expire after the ttl to cover rule changes made on other
+ * instances. The ttl is shorter than the category name cache's since a stale matcher files new
+ * transactions under the wrong category rather than only showing an old name.
+ */
+@Component
+public class CategorizationMatcherCache {
+
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final Cache<UUID, CategorizationMatcher> cache;
+
+    public CategorizationMatcherCache(
+        CategorizationRuleRepository categorizationRuleRepository,
+        @Value("${app.categorization-cache.max-users:10000}") long maxUsers,
+        @Value("${app.categorization-cache.ttl:PT1M}") Duration ttl
+    ) {
+        this.categorizationRuleRepository = categorizationRuleRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public CategorizationMatcher matcherFor(UUID userId) {
+        return cache.get(userId, id -> {
+            var rules = categorizationRuleRepository.findAllByUserIdOrderByPriorityAscIdAsc(id);
+            return rules.isEmpty() ? CategorizationMatcher.EMPTY : CategorizationMatcher.compile(rules);
+        });
+    }
+
+    public void evictAfterCommit(UUID userId) {
+        cache.invalidate(userId);
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
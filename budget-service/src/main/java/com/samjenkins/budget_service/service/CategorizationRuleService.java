@@ -0,0 +1,100 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.dto.CategorizationRuleResponse;
+import com.samjenkins.budget_service.dto.CreateCategorizationRuleRequest;
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import com.samjenkins.budget_service.exception.BadRequestException;
+import com.samjenkins.budget_service.exception.NotFoundException;
+import com.samjenkins.budget_service.repository.CategorizationRuleRepository;
+import com.samjenkins.budget_service.repository.CategoryRepository;
+import com.samjenkins.budget_service.util.UuidV7;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.PatternSyntaxException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CategorizationRuleService {
+
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategorizationMatcherCache categorizationMatcherCache;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public CategorizationRuleResponse create(UUID userId, CreateCategorizationRuleRequest request) {
+        if (!categoryRepository.existsByIdAndUserId(request.categoryId(), userId)) {
+            throw new NotFoundException("Category not found");
+        }
+        if (request.minAmountCents() != null
+            && request.maxAmountCents() != null
+            && request.minAmountCents() > request.maxAmountCents()) {
+            throw new BadRequestException("minAmountCents cannot be greater than maxAmountCents");
+        }
+
+        String pattern = request.matchType() == CategorizationMatchType.REGEX
+            ? request.pattern()
+            : request.pattern().trim();
+        if (request.matchType() == CategorizationMatchType.REGEX) {
+            try {
+                CategorizationMatcher.compileRegex(pattern);
+            } catch (PatternSyntaxException ex) {
+                throw new BadRequestException("pattern is not a valid regular expression");
+            }
+            try {
+                CategorizationMatcher.checkRegexSafety(pattern);
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("pattern " + ex.getMessage());
+            }
+        }
+
+        CategorizationRule rule = CategorizationRule.builder()
+            .id(UuidV7.next())
+            .userId(userId)
+            .categoryId(request.categoryId())
+            .matchType(request.matchType())
+            .pattern(pattern)
+            .minAmountCents(request.minAmountCents())
+            .maxAmountCents(request.maxAmountCents())
+            .priority(request.priority() == null ? 0 : request.priority())
+            .build();
+
+        CategorizationRule saved = categorizationRuleRepository.saveAndFlush(rule);
+        entityManager.refresh(saved);
+        categorizationMatcherCache.evictAfterCommit(userId);
+        return toResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CategorizationRuleResponse> list(UUID userId) {
+        return categorizationRuleRepository.findAllByUserIdOrderByPriorityAscIdAsc(userId).stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    @Transactional
+    public void delete(UUID userId, UUID ruleId) {
+        CategorizationRule rule = categorizationRuleRepository.findByIdAndUserId(ruleId, userId)
+            .orElseThrow(() -> new NotFoundException("Categorization rule not found"));
+        categorizationRuleRepository.delete(rule);
+        categorizationMatcherCache.evictAfterCommit(userId);
+    }
+
+    private CategorizationRuleResponse toResponse(CategorizationRule rule) {
+        return new CategorizationRuleResponse(
+            rule.getId(),
+            rule.getCategoryId(),
+            rule.getMatchType(),
+            rule.getPattern(),
+            rule.getMinAmountCents(),
+            rule.getMaxAmountCents(),
+            rule.getPriority(),
+            rule.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.samjenkins.budget_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samjenkins.budget_service.config.AfterCommit;
+import com.samjenkins.budget_service.entity.Category;
+import com.samjenkins.budget_service.repository.CategoryRepository;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category id to name, per owning user, for display only; ownership checks go to the repository.
+ * Names only change through CategoryService, which evicts the owner's entry, and entries expire after
+ * the ttl to cover writes from other instances. Limits always reference the budget owner's categories,
+ * so budgets look up by owner.
+ */
+@Component
+public class CategoryNameCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<UUID, Map<UUID, String>> cache;
+
+    public CategoryNameCache(
+        CategoryRepository categoryRepository,
+        @Value("${app.category-cache.max-users:10000}") long maxUsers,
+        @Value("${app.category-cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Names for the user's categories, reloading the entry once if any of {@code categoryIds} is missing,
+     * e.g. a category created on another instance since the entry was loaded.
+     */
+    public Map<UUID, String> namesFor(UUID userId, Collection<UUID> categoryIds) {
+        Map<UUID, String> names = cache.get(userId, this::load);
+        if (names.keySet().containsAll(categoryIds)) {
+            return names;
+        }
+        names = load(userId);
+        cache.put(userId, names);
+        return names;
+    }
+
+    private Map<UUID, String> load(UUID userId) {
+        return categoryRepository.findAllByUserIdOrderByNameAsc(userId).stream()
+            .collect(Collectors.toUnmodifiableMap(Category::getId, Category::getName));
+    }
+
+    public void evictAfterCommit(UUID userId) {
+        cache.invalidate(userId);
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+}
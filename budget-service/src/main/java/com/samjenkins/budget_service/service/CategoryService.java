@@ -6,6 +6,7 @@ import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.exception.ConflictException;
 import jakarta.persistence.EntityManager;
 import com.samjenkins.budget_service.repository.CategoryRepository;
+import com.samjenkins.budget_service.util.UuidV7;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -18,13 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryNameCache categoryNameCache;
     private final EntityManager entityManager;
 
     @Transactional
     public CategoryResponse create(UUID userId, CreateCategoryRequest request) {
         String normalized = request.name().trim();
         Category category = Category.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .userId(userId)
             .name(normalized)
             .build();
@@ -32,6 +34,7 @@ public class CategoryService {
         try {
             Category saved = categoryRepository.saveAndFlush(category);
             entityManager.refresh(saved);
+            categoryNameCache.evictAfterCommit(userId);
             return toResponse(saved);
         } catch (DataIntegrityViolationException ex) {
             throw new ConflictException("Category with this name already exists");
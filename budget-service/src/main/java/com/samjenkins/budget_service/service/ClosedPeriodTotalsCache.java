@@ -0,0 +1,50 @@
+package com.samjenkins.budget_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import com.samjenkins.budget_service.repository.PeriodCategoryTotal;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-period category totals of an owner's archived budgets. Archived budgets are read-only, so these
+ * totals only change when a budget moves into or out of ARCHIVED. Budgets are archived by requests on any
+ * instance and by the rollover job, so entries are checked against a stamp of the archived set instead of
+ * relying on local eviction.
+ */
+@Component
+public class ClosedPeriodTotalsCache {
+
+    private final Cache<Key, Entry> cache;
+
+    public ClosedPeriodTotalsCache(@Value("${app.trend-cache.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    /** Totals for the archived set identified by {@code stamp}, loading them when the cached set differs. */
+    public List<PeriodCategoryTotal> get(
+        UUID ownerUserId,
+        BudgetPeriodType periodType,
+        String stamp,
+        Supplier<List<PeriodCategoryTotal>> loader
+    ) {
+        Key key = new Key(ownerUserId, periodType);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.stamp().equals(stamp)) {
+            return cached.totals();
+        }
+        List<PeriodCategoryTotal> totals = List.copyOf(loader.get());
+        cache.put(key, new Entry(stamp, totals));
+        return totals;
+    }
+
+    private record Key(UUID ownerUserId, BudgetPeriodType periodType) {}
+
+    private record Entry(String stamp, List<PeriodCategoryTotal> totals) {}
+}
@@ -0,0 +1,46 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
+import com.samjenkins.budget_service.dto.DashboardResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DashboardService {
+
+    private final BudgetSummaryService budgetSummaryService;
+    private final AlertService alertService;
+    private final Executor dashboardExecutor;
+
+    public DashboardService(
+        BudgetSummaryService budgetSummaryService,
+        AlertService alertService,
+        @Qualifier("dashboardExecutor") Executor dashboardExecutor
+    ) {
+        this.budgetSummaryService = budgetSummaryService;
+        this.alertService = alertService;
+        this.dashboardExecutor = dashboardExecutor;
+    }
+
+    public DashboardResponse load(UUID userId) {
+        CompletableFuture<Long> unreadAlerts = CompletableFuture.supplyAsync(
+            () -> alertService.countUnread(userId),
+            dashboardExecutor
+        );
+        List<BudgetSummaryResponse> budgets = budgetSummaryService.summarizeActive(userId);
+
+        try {
+            return new DashboardResponse(budgets, unreadAlerts.join());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.samjenkins.budget_service.service;
+
+import com.samjenkins.budget_service.config.IdempotencyProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties idempotencyProperties;
+
+    @Scheduled(cron = "${app.idempotency.cleanup-cron}")
+    public void run() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyService.deleteExpired();
+            total += deleted;
+        } while (deleted >= idempotencyProperties.batchSize());
+
+        if (total > 0) {
+            log.info("Deleted {} expired idempotency keys", total);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.samjenkins.budget_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samjenkins.budget_service.config.IdempotencyProperties;
+import com.samjenkins.budget_service.repository.IdempotencyKeyRepository;
+import com.samjenkins.budget_service.repository.IdempotencyRecord;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks Idempotency-Key requests. Completed responses are stored in idempotency_keys with a TTL and
+ * fronted by an in-memory cache, so replays never reach the domain tables. Duplicates arriving while the
+ * original is still running wait for it on this instance; on another instance they see the open claim
+ * and get {@link Outcome.InProgress}.
+ */
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties properties;
+    private final Cache<Key, IdempotencyRecord> completed;
+    private final ConcurrentMap<Key, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, IdempotencyProperties properties) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.properties = properties;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(properties.cacheMaxEntries())
+            .expireAfterWrite(properties.ttl())
+            .build();
+    }
+
+    public Outcome begin(UUID userId, String idempotencyKey, String requestHash) {
+        Key key = new Key(userId, idempotencyKey);
+        while (true) {
+            IdempotencyRecord cached = completed.getIfPresent(key);
+            if (cached != null) {
+                return replayOrMismatch(cached, requestHash);
+            }
+
+            CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                IdempotencyRecord result = await(running);
+                if (result == null) {
+                    // The original failed and released its claim, or is still running past the lease.
+                    if (running.isDone()) {
+                        continue;
+                    }
+                    return new Outcome.InProgress();
+                }
+                return replayOrMismatch(result, requestHash);
+            }
+
+            UUID claimToken = UUID.randomUUID();
+            boolean claimed;
+            try {
+                claimed = idempotencyKeyRepository.claim(
+                    userId, idempotencyKey, requestHash, claimToken, properties.ttl(), properties.inProgressLease());
+            } catch (RuntimeException ex) {
+                // Nobody will complete or release this key, so wake any local waiters instead of leaving them
+                // to sit out the lease.
+                inFlight.remove(key, mine);
+                mine.complete(null);
+                throw ex;
+            }
+            if (claimed) {
+                return new Outcome.Proceed(claimToken);
+            }
+
+            inFlight.remove(key, mine);
+            mine.complete(null);
+            Optional<IdempotencyRecord> stored = idempotencyKeyRepository.find(userId, idempotencyKey);
+            if (stored.isEmpty()) {
+                // Released or expired between the claim attempt and the read; try to claim again.
+                continue;
+            }
+            if (!stored.get().isComplete()) {
+                return stored.get().requestHash().equals(requestHash) ? new Outcome.InProgress() : new Outcome.Mismatch();
+            }
+            completed.put(key, stored.get());
+            return replayOrMismatch(stored.get(), requestHash);
+        }
+    }
+
+    /**
+     * Stores the response for a claim returned by {@link #begin}. If the claim's lease ran out and a retry
+     * took the key over, nothing is stored and local waiters retry against the new holder.
+     */
+    public void complete(UUID userId, String idempotencyKey, UUID claimToken, IdempotencyRecord response) {
+        Key key = new Key(userId, idempotencyKey);
+        IdempotencyRecord stored = null;
+        try {
+            if (idempotencyKeyRepository.complete(userId, idempotencyKey, claimToken, response)) {
+                completed.put(key, response);
+                stored = response;
+            }
+        } finally {
+            finish(key, stored);
+        }
+    }
+
+    public void release(UUID userId, String idempotencyKey, UUID claimToken) {
+        Key key = new Key(userId, idempotencyKey);
+        try {
+            idempotencyKeyRepository.release(userId, idempotencyKey, claimToken);
+        } finally {
+            finish(key, null);
+        }
+    }
+
+    public int deleteExpired() {
+        return idempotencyKeyRepository.deleteExpired(properties.batchSize());
+    }
+
+    private void finish(Key key, IdempotencyRecord record) {
+        CompletableFuture<IdempotencyRecord> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(record);
+        }
+    }
+
+    private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(properties.inProgressLease().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException ex) {
+            return null;
+        }
+    }
+
+    private Outcome replayOrMismatch(IdempotencyRecord record, String requestHash) {
+        return record.requestHash().equals(requestHash) ? new Outcome.Replay(record) : new Outcome.Mismatch();
+    }
+
+    private record Key(UUID userId, String idempotencyKey) {}
+
+    public sealed interface Outcome {
+
+        /** First request for the key: run it, then call {@code complete} or {@code release} with the token. */
+        record Proceed(UUID claimToken) implements Outcome {}
+
+        record Replay(IdempotencyRecord response) implements Outcome {}
+
+        /** The key was already used for a different request. */
+        record Mismatch() implements Outcome {}
+
+        /** The original request is still running elsewhere. */
+        record InProgress() implements Outcome {}
+    }
+}
@@ -0,0 +1,33 @@
+package com.samjenkins.budget_service.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Linear spend-rate extrapolation over a budget period. Works from a running total, so it is O(1)
+ * regardless of how many transactions make up the spend.
+ */
+final class SpendForecast {
+
+    // Early in a period a single purchase extrapolates wildly; wait for a quarter of the period.
+    static final double MIN_ELAPSED_FRACTION = 0.25;
+
+    private SpendForecast() {
+    }
+
+    static boolean projectedToExceed(long spentCents, long limitCents, LocalDate start, LocalDate end, LocalDate today) {
+        if (limitCents <= 0 || spentCents <= 0 || spentCents >= limitCents) {
+            return false;
+        }
+        if (today.isBefore(start) || today.isAfter(end)) {
+            return false;
+        }
+
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+        long elapsedDays = ChronoUnit.DAYS.between(start, today) + 1;
+        if (elapsedDays < Math.ceil(totalDays * MIN_ELAPSED_FRACTION)) {
+            return false;
+        }
+        return spentCents * totalDays > limitCents * elapsedDays;
+    }
+}
@@ -1,39 +1,64 @@
 package com.samjenkins.budget_service.service;
 
+import com.samjenkins.budget_service.dto.BulkTransactionAction;
+import com.samjenkins.budget_service.dto.BulkTransactionFilter;
+import com.samjenkins.budget_service.dto.BulkTransactionRequest;
+import com.samjenkins.budget_service.dto.BulkTransactionResponse;
 import com.samjenkins.budget_service.dto.CreateTransactionRequest;
+import com.samjenkins.budget_service.dto.ImportTransactionRow;
+import com.samjenkins.budget_service.dto.ImportTransactionsRequest;
+import com.samjenkins.budget_service.dto.ImportTransactionsResponse;
 import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.dto.TransactionSearchResponse;
 import com.samjenkins.budget_service.dto.UpdateTransactionRequest;
+import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
+import com.samjenkins.budget_service.entity.TransactionSource;
 import com.samjenkins.budget_service.entity.Txn;
 import com.samjenkins.budget_service.entity.Budget;
 import com.samjenkins.budget_service.exception.BadRequestException;
+import com.samjenkins.budget_service.exception.ConflictException;
 import com.samjenkins.budget_service.exception.NotFoundException;
 import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
+import com.samjenkins.budget_service.repository.TxnBulkRepository.BulkChange;
+import com.samjenkins.budget_service.repository.TxnBulkRepository.Selection;
+import com.samjenkins.budget_service.repository.TxnImportRepository.ImportRow;
 import com.samjenkins.budget_service.repository.TxnRepository;
+import com.samjenkins.budget_service.repository.TxnSearchRepository.SearchKey;
 import com.samjenkins.budget_service.service.AlertService;
+import com.samjenkins.budget_service.util.UuidV7;
 import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class TxnService {
 
     private static final int DEFAULT_LIMIT = 50;
     private static final int MAX_LIMIT = 200;
+    private static final int MIN_SEARCH_LENGTH = 3;
+    private static final String STALE_TRANSACTION = "Transaction was modified by another request; reload and retry";
 
     private final TxnRepository txnRepository;
     private final BudgetCategoryLimitRepository budgetCategoryLimitRepository;
     private final BudgetAccessService budgetAccessService;
     private final AlertService alertService;
+    private final BudgetVersionService budgetVersionService;
+    private final BudgetSpendTracker budgetSpendTracker;
+    private final CategorizationMatcherCache categorizationMatcherCache;
     private final EntityManager entityManager;
 
     @Transactional
@@ -41,13 +66,18 @@ public class TxnService {
         validateAmount(request.amountCents());
         Budget budget = budgetAccessService.requireWriteAccess(userId, request.budgetId());
         validateDateInBudgetRange(request.transactionDate(), budget);
-        validateCategoryInBudget(budget.getId(), request.categoryId());
+        UUID categoryId = request.categoryId();
+        if (categoryId != null) {
+            validateCategoryInBudget(budget.getId(), categoryId);
+        } else if (request.source() != TransactionSource.MANUAL) {
+            categoryId = autoCategorize(budget, request.merchant(), request.amountCents());
+        }
 
         Txn txn = Txn.builder()
-            .id(UUID.randomUUID())
+            .id(UuidV7.next())
             .userId(userId)
             .budgetId(budget.getId())
-            .categoryId(request.categoryId())
+            .categoryId(categoryId)
             .merchant(request.merchant().trim())
             .description(trimToNull(request.description()))
             .amountCents(request.amountCents())
@@ -58,10 +88,119 @@ public class TxnService {
 
         Txn saved = txnRepository.saveAndFlush(txn);
         entityManager.refresh(saved);
+        budgetSpendTracker.record(null, BudgetSpendTracker.Contribution.of(saved));
+        budgetVersionService.bump(saved.getBudgetId());
         evaluateThresholdIfExpense(saved);
         return toResponse(saved);
     }
 
+    @Transactional
+    public ImportTransactionsResponse importTransactions(UUID userId, UUID budgetId, ImportTransactionsRequest request) {
+        Budget budget = budgetAccessService.requireWriteAccess(userId, budgetId);
+        TransactionSource source = request.source() == null ? TransactionSource.IMPORT : request.source();
+        Set<UUID> budgetCategories = budgetCategoryLimitRepository.findAllByBudgetIdOrderByCreatedAtAsc(budgetId).stream()
+            .map(BudgetCategoryLimit::getCategoryId)
+            .collect(Collectors.toSet());
+        CategorizationMatcher matcher = categorizationMatcherCache.matcherFor(budget.getOwnerUserId());
+
+        List<ImportRow> rows = new ArrayList<>(request.transactions().size());
+        for (ImportTransactionRow row : request.transactions()) {
+            validateAmount(row.amountCents());
+            validateDateInBudgetRange(row.transactionDate(), budget);
+            String merchant = row.merchant().trim();
+            UUID categoryId = row.categoryId();
+            if (categoryId != null && !budgetCategories.contains(categoryId)) {
+                throw new NotFoundException("Category not in budget");
+            }
+            if (categoryId == null && source != TransactionSource.MANUAL) {
+                UUID matched = matcher.match(merchant, row.amountCents());
+                categoryId = budgetCategories.contains(matched) ? matched : null;
+            }
+            rows.add(new ImportRow(
+                UuidV7.next(),
+                categoryId,
+                merchant,
+                trimToNull(row.description()),
+                row.amountCents(),
+                row.transactionDate()
+            ));
+        }
+
+        // Bumping first takes the budget row lock, so concurrent imports into one budget cannot both miss
+        // each other's rows in the duplicate check.
+        budgetVersionService.bump(budgetId);
+        List<ImportRow> inserted = txnRepository.insertSkippingDuplicates(budgetId, userId, source, rows);
+        budgetSpendTracker.recordAll(List.of(), inserted.stream()
+            .map(row -> new BudgetSpendTracker.Contribution(budgetId, row.categoryId(), row.amountCents(), row.transactionDate()))
+            .toList());
+        if (inserted.stream().anyMatch(row -> row.categoryId() != null && row.amountCents() < 0)) {
+            alertService.enqueueBudgetEvaluationAfterCommit(budgetId);
+        }
+        return new ImportTransactionsResponse(rows.size(), inserted.size(), rows.size() - inserted.size());
+    }
+
+    /**
+     * Applies one action to a set of transactions in the budget, selected either by id or by filter, as a
+     * single UPDATE or DELETE. Rollups are adjusted from the returned before/after rows and alerts are
+     * re-evaluated once per affected category after commit.
+     */
+    @Transactional
+    public BulkTransactionResponse bulk(UUID userId, UUID budgetId, BulkTransactionRequest request) {
+        budgetAccessService.requireWriteAccess(userId, budgetId);
+        Selection selection = toSelection(request);
+
+        List<BulkChange> changes = switch (request.action()) {
+            case RECATEGORIZE -> {
+                validateCategoryInBudget(budgetId, request.categoryId());
+                yield txnRepository.recategorize(budgetId, selection, request.categoryId());
+            }
+            case MOVE -> {
+                if (request.targetBudgetId() == null) {
+                    throw new BadRequestException("targetBudgetId is required");
+                }
+                if (request.targetBudgetId().equals(budgetId)) {
+                    throw new BadRequestException("targetBudgetId must differ from the source budget");
+                }
+                Budget target = budgetAccessService.requireWriteAccess(userId, request.targetBudgetId());
+                if (txnRepository.countOutsideDates(budgetId, selection, target.getStartDate(), target.getEndDate()) > 0) {
+                    throw new BadRequestException("transactionDate must fall within budget period");
+                }
+                yield txnRepository.move(budgetId, selection, target.getId());
+            }
+            case DELETE -> txnRepository.delete(budgetId, selection);
+        };
+
+        if (selection.ids() != null && changes.size() != selection.ids().size()) {
+            throw new NotFoundException("Transaction not found");
+        }
+        if (changes.isEmpty()) {
+            return new BulkTransactionResponse(request.action(), 0);
+        }
+
+        budgetSpendTracker.recordAll(
+            changes.stream()
+                .map(change -> new BudgetSpendTracker.Contribution(
+                    change.oldBudgetId(), change.oldCategoryId(), change.amountCents(), change.transactionDate()))
+                .toList(),
+            changes.stream()
+                .filter(change -> change.newBudgetId() != null)
+                .map(change -> new BudgetSpendTracker.Contribution(
+                    change.newBudgetId(), change.newCategoryId(), change.amountCents(), change.transactionDate()))
+                .toList()
+        );
+        budgetVersionService.bump(budgetId);
+        if (request.action() == BulkTransactionAction.MOVE) {
+            budgetVersionService.bump(request.targetBudgetId());
+        }
+
+        Set<CategoryKey> affected = changes.stream()
+            .filter(change -> change.newCategoryId() != null && change.amountCents() < 0)
+            .map(change -> new CategoryKey(change.newBudgetId(), change.newCategoryId()))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        affected.forEach(key -> alertService.enqueueCategoryEvaluationAfterCommit(key.budgetId(), key.categoryId()));
+        return new BulkTransactionResponse(request.action(), changes.size());
+    }
+
     @Transactional
     public TransactionResponse update(UUID userId, UUID transactionId, UpdateTransactionRequest request) {
         Txn existing = txnRepository.findById(transactionId)
@@ -72,6 +211,14 @@ public class TxnService {
         if (existing.getBudgetId() == null && request.budgetId() == null) {
             throw new BadRequestException("budgetId is required");
         }
+        // The edit is written by one conditional UPDATE below; Hibernate must not flush the entity as well.
+        entityManager.detach(existing);
+        long expectedVersion = request.version() == null ? existing.getVersion() : request.version();
+        if (expectedVersion != existing.getVersion()) {
+            throw new ConflictException(STALE_TRANSACTION);
+        }
+        UUID previousBudgetId = existing.getBudgetId();
+        BudgetSpendTracker.Contribution previous = BudgetSpendTracker.Contribution.of(existing);
         Budget existingBudget = existing.getBudgetId() == null
             ? null
             : budgetAccessService.requireWriteAccess(userId, existing.getBudgetId());
@@ -115,11 +262,15 @@ public class TxnService {
         }
         validateDateInBudgetRange(existing.getTransactionDate(), budget);
 
-        existing.setUpdatedAt(OffsetDateTime.now());
-        Txn saved = txnRepository.saveAndFlush(existing);
-        entityManager.refresh(saved);
-        evaluateThresholdIfExpense(saved);
-        return toResponse(saved);
+        TransactionResponse saved = txnRepository.updateIfVersion(existing, expectedVersion)
+            .orElseThrow(() -> new ConflictException(STALE_TRANSACTION));
+        budgetSpendTracker.record(previous, BudgetSpendTracker.Contribution.of(existing));
+        budgetVersionService.bump(saved.budgetId());
+        if (previousBudgetId != null && !previousBudgetId.equals(saved.budgetId())) {
+            budgetVersionService.bump(previousBudgetId);
+        }
+        evaluateThresholdIfExpense(existing);
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -131,7 +282,19 @@ public class TxnService {
         java.time.LocalDate maxDate,
         Integer requestedLimit
     ) {
-        Budget budget = budgetAccessService.requireReadAccess(userId, budgetId);
+        return listByBudget(budgetAccessService.requireReadAccess(userId, budgetId), categoryId, minDate, maxDate, requestedLimit);
+    }
+
+    /** Lists transactions of a budget the caller has already been authorized to read. */
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> listByBudget(
+        Budget budget,
+        UUID categoryId,
+        java.time.LocalDate minDate,
+        java.time.LocalDate maxDate,
+        Integer requestedLimit
+    ) {
+        UUID budgetId = budget.getId();
         if (categoryId != null) {
             validateCategoryInBudget(budgetId, categoryId);
         }
@@ -147,13 +310,89 @@ public class TxnService {
         }
 
         PageRequest page = PageRequest.of(0, limit);
-        List<Txn> txns = categoryId == null
-            ? txnRepository.findAllByBudgetIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-                budgetId, effectiveMin, effectiveMax, page)
-            : txnRepository.findAllByBudgetIdAndCategoryIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-                budgetId, categoryId, effectiveMin, effectiveMax, page);
+        return categoryId == null
+            ? txnRepository.findResponsesByBudget(budgetId, effectiveMin, effectiveMax, page)
+            : txnRepository.findResponsesByBudgetAndCategory(budgetId, categoryId, effectiveMin, effectiveMax, page);
+    }
+
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse search(
+        UUID userId,
+        String query,
+        Long minAmountCents,
+        Long maxAmountCents,
+        String cursor,
+        Integer requestedLimit
+    ) {
+        String q = query == null ? "" : query.trim();
+        // Trigram indexes can only narrow patterns of at least three characters.
+        if (q.length() < MIN_SEARCH_LENGTH) {
+            throw new BadRequestException("q must be at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+        if (minAmountCents != null && maxAmountCents != null && minAmountCents > maxAmountCents) {
+            throw new BadRequestException("minAmount cannot be greater than maxAmount");
+        }
+
+        int limit = requestedLimit == null ? DEFAULT_LIMIT : Math.min(Math.max(requestedLimit, 1), MAX_LIMIT);
+        List<TransactionResponse> rows = txnRepository.search(
+            userId, q, minAmountCents, maxAmountCents, decodeCursor(cursor), limit + 1);
+        if (rows.size() <= limit) {
+            return new TransactionSearchResponse(rows, null);
+        }
+
+        List<TransactionResponse> page = rows.subList(0, limit);
+        return new TransactionSearchResponse(List.copyOf(page), encodeCursor(page.get(limit - 1)));
+    }
 
-        return txns.stream().map(this::toResponse).toList();
+    private static String encodeCursor(TransactionResponse last) {
+        String key = last.transactionDate() + "|" + last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SearchKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new SearchKey(LocalDate.parse(parts[0]), OffsetDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private Selection toSelection(BulkTransactionRequest request) {
+        List<UUID> ids = request.transactionIds();
+        BulkTransactionFilter filter = request.filter();
+        if ((ids == null) == (filter == null)) {
+            throw new BadRequestException("Exactly one of transactionIds or filter is required");
+        }
+        if (ids != null) {
+            if (ids.isEmpty()) {
+                throw new BadRequestException("transactionIds cannot be empty");
+            }
+            return new Selection(List.copyOf(new LinkedHashSet<>(ids)), null, null, null);
+        }
+        if (filter.categoryId() == null && filter.minDate() == null && filter.maxDate() == null) {
+            // An empty filter would select every transaction in the budget.
+            throw new BadRequestException("filter requires at least one of categoryId, minDate or maxDate");
+        }
+        if (filter.minDate() != null && filter.maxDate() != null && filter.minDate().isAfter(filter.maxDate())) {
+            throw new BadRequestException("minDate cannot be after maxDate");
+        }
+        return new Selection(null, filter.categoryId(), filter.minDate(), filter.maxDate());
+    }
+
+    // Budgets only hold the owner's categories, so the owner's rules apply whoever imports the transaction.
+    private UUID autoCategorize(Budget budget, String merchant, long amountCents) {
+        UUID categoryId = categorizationMatcherCache.matcherFor(budget.getOwnerUserId()).match(merchant, amountCents);
+        if (categoryId == null || budgetCategoryLimitRepository.findByBudgetIdAndCategoryId(budget.getId(), categoryId).isEmpty()) {
+            return null;
+        }
+        return categoryId;
     }
 
     private void validateCategoryInBudget(UUID budgetId, UUID categoryId) {
@@ -182,34 +421,7 @@ public class TxnService {
 
     private void evaluateThresholdIfExpense(Txn txn) {
         if (txn.getAmountCents() < 0 && txn.getBudgetId() != null && txn.getCategoryId() != null) {
-            enqueueAlertEvaluation(txn.getBudgetId(), txn.getCategoryId(), txn.getId());
-        }
-    }
-
-    private void enqueueAlertEvaluation(UUID budgetId, UUID categoryId, UUID txnId) {
-        Runnable task = () -> {
-            try {
-                alertService.evaluateBudgetThresholdsForBudget(budgetId, categoryId);
-            } catch (RuntimeException ex) {
-                log.warn(
-                    "Alert evaluation failed for budgetId={} categoryId={} txnId={}; continuing",
-                    budgetId,
-                    categoryId,
-                    txnId,
-                    ex
-                );
-            }
-        };
-
-        if (TransactionSynchronizationManager.isActualTransactionActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    task.run();
-                }
-            });
-        } else {
-            task.run();
+            alertService.enqueueCategoryEvaluationAfterCommit(txn.getBudgetId(), txn.getCategoryId());
         }
     }
 
@@ -221,6 +433,8 @@ public class TxnService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    private record CategoryKey(UUID budgetId, UUID categoryId) {}
+
     private TransactionResponse toResponse(Txn txn) {
         return new TransactionResponse(
             txn.getId(),
@@ -232,7 +446,8 @@ public class TxnService {
             txn.getTransactionDate(),
             txn.getSource(),
             txn.getCreatedAt(),
-            txn.getUpdatedAt()
+            txn.getUpdatedAt(),
+            txn.getVersion()
         );
     }
 }
@@ -0,0 +1,4 @@
+-- Unread badge count and unreadOnly listing only touch unread rows.
+create index if not exists idx_alerts_user_unread
+    on alerts(user_id, created_at desc)
+    where read_at is null;
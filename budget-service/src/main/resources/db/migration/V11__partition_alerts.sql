@@ -0,0 +1,101 @@
+-- Alerts become monthly range partitions on created_at. Newest-first listing scans partitions in order and
+-- stops at the LIMIT, and retention can drop whole months instead of deleting row by row.
+-- Unique indexes on a partitioned table must include created_at, so threshold dedupe moves to its own table.
+
+create table if not exists alert_threshold_marks (
+    user_id uuid not null,
+    budget_id uuid not null,
+    category_id uuid not null,
+    threshold_pct integer not null,
+    created_at timestamptz not null default now(),
+    constraint pk_alert_threshold_marks primary key (user_id, budget_id, category_id, threshold_pct),
+    constraint fk_alert_threshold_marks_budget_plan
+        foreign key (budget_id)
+        references budget_plans(id)
+        on delete cascade
+);
+
+create index if not exists idx_alert_threshold_marks_budget
+    on alert_threshold_marks(budget_id);
+
+insert into alert_threshold_marks (user_id, budget_id, category_id, threshold_pct, created_at)
+select user_id, budget_id, category_id, threshold_pct, min(created_at)
+from alerts
+where type in ('BUDGET_80', 'BUDGET_100')
+  and budget_id is not null
+  and category_id is not null
+  and threshold_pct is not null
+group by user_id, budget_id, category_id, threshold_pct
+on conflict do nothing;
+
+alter table alerts rename to alerts_legacy;
+
+create table alerts (
+    id uuid not null,
+    user_id uuid not null,
+    type text not null,
+    message text not null,
+    created_at timestamptz not null default now(),
+    read_at timestamptz null,
+    category_id uuid null,
+    month date null,
+    threshold_pct integer null,
+    budget_id uuid null,
+    constraint pk_alerts primary key (id, created_at),
+    constraint ck_alerts_type check (type in ('BUDGET_80', 'BUDGET_100', 'SYSTEM')),
+    constraint ck_alerts_threshold_range check (threshold_pct is null or (threshold_pct >= 0 and threshold_pct <= 100)),
+    constraint ck_alerts_budget_metadata_required check (
+        (type not in ('BUDGET_80', 'BUDGET_100'))
+        or (category_id is not null and month is not null and threshold_pct is not null)
+    ),
+    constraint ck_alerts_month_first_day check (month is null or month = date_trunc('month', month)::date),
+    constraint fk_alerts_budget_plan
+        foreign key (budget_id)
+        references budget_plans(id)
+        on delete set null
+) partition by range (created_at);
+
+-- Partitions are cut on UTC month boundaries; AlertPartitionRepository keeps creating future months.
+do $$
+declare
+    month_start date := date_trunc('month', coalesce((select min(created_at) from alerts_legacy), now()) at time zone 'UTC')::date;
+    last_month date := (date_trunc('month', now() at time zone 'UTC') + interval '3 months')::date;
+begin
+    while month_start <= last_month loop
+        execute format(
+            'create table if not exists %I partition of alerts for values from (%L) to (%L)',
+            'alerts_' || to_char(month_start, '"y"YYYY"m"MM'),
+            month_start::text || ' 00:00:00+00',
+            (month_start + interval '1 month')::date::text || ' 00:00:00+00'
+        );
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end $$;
+
+insert into alerts (id, user_id, type, message, created_at, read_at, category_id, month, threshold_pct, budget_id)
+select id, user_id, type, message, created_at, read_at, category_id, month, threshold_pct, budget_id
+from alerts_legacy;
+
+drop table alerts_legacy;
+
+create index if not exists idx_alerts_user_created
+    on alerts(user_id, created_at desc);
+
+create index if not exists idx_alerts_user_unread
+    on alerts(user_id, created_at desc)
+    where read_at is null;
+
+-- Read alerts past retention are moved here without their message text.
+create table if not exists alert_history (
+    id uuid primary key,
+    user_id uuid not null,
+    type text not null,
+    budget_id uuid null,
+    category_id uuid null,
+    threshold_pct integer null,
+    created_at timestamptz not null,
+    read_at timestamptz not null
+);
+
+create index if not exists idx_alert_history_user_created
+    on alert_history(user_id, created_at desc);
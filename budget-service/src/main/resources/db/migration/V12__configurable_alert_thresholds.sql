@@ -0,0 +1,29 @@
+alter table budget_plans
+    add column if not exists alert_thresholds integer[] not null default '{80,100}';
+
+-- Null inherits the budget's thresholds.
+alter table budget_category_limits
+    add column if not exists alert_thresholds integer[] null;
+
+alter table budget_plans
+    add constraint ck_budget_plans_alert_thresholds_range
+        check (1 <= all(alert_thresholds) and 100 >= all(alert_thresholds));
+
+alter table budget_category_limits
+    add constraint ck_budget_category_limits_alert_thresholds_range
+        check (alert_thresholds is null or (1 <= all(alert_thresholds) and 100 >= all(alert_thresholds)));
+
+alter table alerts
+    drop constraint ck_alerts_type;
+
+alter table alerts
+    add constraint ck_alerts_type check (type in ('BUDGET_80', 'BUDGET_100', 'BUDGET_THRESHOLD', 'SYSTEM'));
+
+alter table alerts
+    drop constraint ck_alerts_budget_metadata_required;
+
+alter table alerts
+    add constraint ck_alerts_budget_metadata_required check (
+        (type not in ('BUDGET_80', 'BUDGET_100', 'BUDGET_THRESHOLD'))
+        or (category_id is not null and month is not null and threshold_pct is not null)
+    );
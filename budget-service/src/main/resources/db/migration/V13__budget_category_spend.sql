@@ -0,0 +1,59 @@
+-- Running expense totals per budget category, maintained by TxnService writes so alert evaluation
+-- reads one row instead of re-aggregating transactions.
+create table if not exists budget_category_spend (
+    budget_id uuid not null,
+    category_id uuid not null,
+    spent_cents bigint not null default 0,
+    updated_at timestamptz not null default now(),
+    constraint pk_budget_category_spend primary key (budget_id, category_id),
+    constraint fk_budget_category_spend_budget_plan
+        foreign key (budget_id)
+        references budget_plans(id)
+        on delete cascade
+);
+
+insert into budget_category_spend (budget_id, category_id, spent_cents)
+select budget_id, category_id, sum(-amount_cents)
+from transactions
+where budget_id is not null
+  and category_id is not null
+  and amount_cents < 0
+group by budget_id, category_id
+on conflict do nothing;
+
+alter table alerts
+    drop constraint ck_alerts_type;
+
+alter table alerts
+    add constraint ck_alerts_type
+        check (type in ('BUDGET_80', 'BUDGET_100', 'BUDGET_THRESHOLD', 'BUDGET_PROJECTED', 'SYSTEM'));
+
+alter table alerts
+    drop constraint ck_alerts_budget_metadata_required;
+
+alter table alerts
+    add constraint ck_alerts_budget_metadata_required check (
+        (type not in ('BUDGET_80', 'BUDGET_100', 'BUDGET_THRESHOLD', 'BUDGET_PROJECTED'))
+        or (category_id is not null and month is not null and threshold_pct is not null)
+    );
+
+-- A projection at 100% must not collide with the BUDGET_100 mark for the same category.
+alter table alert_threshold_marks
+    add column if not exists type text null;
+
+update alert_threshold_marks
+set type = case threshold_pct
+    when 80 then 'BUDGET_80'
+    when 100 then 'BUDGET_100'
+    else 'BUDGET_THRESHOLD'
+end
+where type is null;
+
+alter table alert_threshold_marks
+    alter column type set not null;
+
+alter table alert_threshold_marks
+    drop constraint pk_alert_threshold_marks;
+
+alter table alert_threshold_marks
+    add constraint pk_alert_threshold_marks primary key (user_id, budget_id, category_id, type, threshold_pct);
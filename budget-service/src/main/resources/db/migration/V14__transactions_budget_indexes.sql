@@ -0,0 +1,20 @@
+-- Budget-scoped reads filter on budget_id alone; the existing transaction indexes all lead with user_id.
+
+-- Category spend rollups: summarizeBudgetCategoryExpenses / sumCategoryExpensesByBudget.
+-- Covers amount_cents so the sums can be answered from the index.
+create index if not exists idx_transactions_budget_category_expense
+    on transactions(budget_id, category_id)
+    include (amount_cents)
+    where amount_cents < 0 and category_id is not null;
+
+-- Budget listing, newest first; also serves the totals query and the budget_plans FK on delete.
+create index if not exists idx_transactions_budget_date
+    on transactions(budget_id, transaction_date desc, created_at desc);
+
+-- Budget listing filtered to one category.
+create index if not exists idx_transactions_budget_category_date
+    on transactions(budget_id, category_id, transaction_date desc, created_at desc)
+    where category_id is not null;
+
+-- Superseded by idx_transactions_budget_date; no query filters on user_id and budget_id together.
+drop index if exists idx_transactions_user_budget_date;
@@ -0,0 +1,17 @@
+-- Time-ordered ids for rows generated in SQL, matching UuidV7 on the application side.
+-- Overlays the 48-bit millisecond timestamp on a random v4 uuid and flips the version nibble from 4 to 7.
+create or replace function uuid_generate_v7()
+returns uuid
+language sql
+volatile
+as $$
+    select encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        placing substring(int8send(floor(extract(epoch from clock_timestamp()) * 1000)::bigint) from 3)
+                        from 1 for 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$;
@@ -0,0 +1,26 @@
+-- Per-day expense and income per budget category (null category = uncategorized), maintained by
+-- TxnService writes so chart series cost one row per day rather than one per transaction.
+create table if not exists budget_daily_spend (
+    budget_id uuid not null,
+    category_id uuid null,
+    day date not null,
+    spent_cents bigint not null default 0,
+    income_cents bigint not null default 0,
+    updated_at timestamptz not null default now(),
+    constraint ux_budget_daily_spend unique nulls not distinct (budget_id, day, category_id),
+    constraint fk_budget_daily_spend_budget_plan
+        foreign key (budget_id)
+        references budget_plans(id)
+        on delete cascade
+);
+
+insert into budget_daily_spend (budget_id, category_id, day, spent_cents, income_cents)
+select budget_id,
+       category_id,
+       transaction_date,
+       coalesce(sum(-amount_cents) filter (where amount_cents < 0), 0),
+       coalesce(sum(amount_cents) filter (where amount_cents > 0), 0)
+from transactions
+where budget_id is not null
+group by budget_id, category_id, transaction_date
+on conflict do nothing;
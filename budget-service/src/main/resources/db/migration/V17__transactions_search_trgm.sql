@@ -0,0 +1,9 @@
+-- Substring search over merchant/description (`ilike '%q%'`) cannot use a btree; trigram GIN indexes can.
+create extension if not exists pg_trgm;
+
+create index if not exists idx_transactions_merchant_trgm
+    on transactions using gin (merchant gin_trgm_ops);
+
+create index if not exists idx_transactions_description_trgm
+    on transactions using gin (description gin_trgm_ops)
+    where description is not null;
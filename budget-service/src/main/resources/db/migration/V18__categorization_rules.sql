@@ -0,0 +1,18 @@
+create table if not exists categorization_rules (
+    id uuid primary key,
+    user_id uuid not null,
+    category_id uuid not null references categories(id) on delete cascade,
+    match_type text not null,
+    pattern text not null,
+    min_amount_cents bigint null,
+    max_amount_cents bigint null,
+    priority integer not null default 0,
+    created_at timestamptz not null default now(),
+    constraint ck_categorization_rules_match_type check (match_type in ('CONTAINS', 'PREFIX', 'REGEX')),
+    constraint ck_categorization_rules_amount_range check (
+        min_amount_cents is null or max_amount_cents is null or min_amount_cents <= max_amount_cents
+    )
+);
+
+create index if not exists idx_categorization_rules_user
+    on categorization_rules(user_id, priority, id);
@@ -0,0 +1,25 @@
+-- Stable identity of a transaction as a bank export describes it, used to spot re-imported rows.
+-- Merchant is reduced to lowercase alphanumerics so "SQ *COFFEE CO" and "Sq*Coffee Co." agree.
+-- Dates are hashed as day numbers because date::text depends on DateStyle and is not immutable.
+create or replace function transaction_fingerprint(budget_id uuid, transaction_date date, amount_cents bigint, merchant text)
+returns uuid
+language sql
+immutable
+parallel safe
+as $$
+    select md5(
+        budget_id::text
+        || '|' || (transaction_date - date '2000-01-01')::text
+        || '|' || amount_cents::text
+        || '|' || regexp_replace(lower(merchant), '[^[:alnum:]]+', '', 'g')
+    )::uuid;
+$$;
+
+alter table transactions
+    add column if not exists fingerprint uuid
+    generated always as (transaction_fingerprint(budget_id, transaction_date, amount_cents, merchant)) stored;
+
+-- Not unique: two identical coffees on the same day are legitimate. Imports compare occurrence counts instead.
+create index if not exists idx_transactions_fingerprint
+    on transactions(fingerprint)
+    where fingerprint is not null;
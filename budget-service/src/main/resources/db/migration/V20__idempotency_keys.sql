@@ -0,0 +1,16 @@
+-- Stored responses for requests sent with an Idempotency-Key. A row with a null status_code is a claim
+-- held by a request still in flight.
+create table if not exists idempotency_keys (
+    user_id uuid not null,
+    idempotency_key text not null,
+    request_hash text not null,
+    status_code integer null,
+    content_type text null,
+    response_body bytea null,
+    created_at timestamptz not null default now(),
+    expires_at timestamptz not null,
+    primary key (user_id, idempotency_key)
+);
+
+create index if not exists idx_idempotency_keys_expires
+    on idempotency_keys(expires_at);
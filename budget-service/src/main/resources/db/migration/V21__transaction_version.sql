@@ -0,0 +1,3 @@
+-- Row version for optimistic concurrency on transaction edits; every write increments it.
+alter table transactions
+    add column if not exists version bigint not null default 0;
@@ -0,0 +1,13 @@
+-- Frozen budget and summary responses for archived budgets, captured at archival as serialized JSON so
+-- history reads fetch one row instead of re-aggregating transactions. Removed again on unarchive.
+create table if not exists budget_snapshots (
+    budget_id uuid primary key,
+    budget_version bigint not null,
+    budget_json bytea not null,
+    summary_json bytea not null,
+    created_at timestamptz not null default now(),
+    constraint fk_budget_snapshots_budget_plan
+        foreign key (budget_id)
+        references budget_plans(id)
+        on delete cascade
+);
@@ -0,0 +1,3 @@
+-- Catches alerts for months whose partition has not been created yet, so inserts never fail on a missing
+-- range. AlertPartitionRepository moves these rows into the month partition when it is created.
+create table if not exists alerts_default partition of alerts default;
@@ -0,0 +1,6 @@
+-- claim_token identifies the request holding a claim, so a request whose lease was taken over cannot
+-- store its response over the new holder's. etag and location are replayed along with the body.
+alter table idempotency_keys
+    add column if not exists claim_token uuid null,
+    add column if not exists etag text null,
+    add column if not exists location text null;
@@ -0,0 +1,16 @@
+alter table budget_plans
+    add column if not exists rolled_over_from_id uuid null;
+
+alter table budget_plans
+    add constraint fk_budget_plans_rolled_over_from
+        foreign key (rolled_over_from_id)
+        references budget_plans(id)
+        on delete set null;
+
+-- At most one successor per budget; makes the rollover batch idempotent.
+alter table budget_plans
+    add constraint uq_budget_plans_rolled_over_from unique (rolled_over_from_id);
+
+create index if not exists idx_budget_plans_rollover_candidates
+    on budget_plans(end_date, id)
+    where status = 'ACTIVE';
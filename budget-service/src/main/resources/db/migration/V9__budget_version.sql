@@ -0,0 +1,3 @@
+-- Bumped on every transaction, limit, member or budget mutation; drives conditional GET ETags.
+alter table budget_plans
+    add column if not exists version bigint not null default 0;
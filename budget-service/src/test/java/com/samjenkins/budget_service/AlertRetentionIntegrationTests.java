@@ -0,0 +1,141 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.repository.AlertPartitionRepository;
+import com.samjenkins.budget_service.service.AlertRetentionService;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AlertRetentionIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AlertRetentionService alertRetentionService;
+
+    @Autowired
+    private AlertPartitionRepository alertPartitionRepository;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void archivesOldReadAlertsAndDropsPartitionsLeftEmpty() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        YearMonth current = YearMonth.from(now);
+        YearMonth archivedMonth = current.minusMonths(9);
+        YearMonth unreadMonth = current.minusMonths(8);
+        alertRetentionService.ensurePartitions(archivedMonth, unreadMonth);
+
+        UUID userId = UUID.randomUUID();
+        UUID oldReadId = insertAlert(userId, archivedMonth.atDay(10).atStartOfDay().atOffset(ZoneOffset.UTC), true);
+        insertAlert(userId, unreadMonth.atDay(10).atStartOfDay().atOffset(ZoneOffset.UTC), false);
+        insertAlert(userId, now.minusDays(1), true);
+
+        OffsetDateTime cutoff = now.minusDays(180);
+        assertEquals(1, alertRetentionService.archiveBatch(cutoff));
+        assertEquals(0, alertRetentionService.archiveBatch(cutoff));
+        assertEquals(1, alertRetentionService.dropEmptyPartitionsBefore(cutoff));
+
+        assertFalse(alertPartitionRepository.findPartitionMonths().contains(archivedMonth));
+        assertTrue(alertPartitionRepository.findPartitionMonths().contains(unreadMonth));
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from alerts where user_id = ?", Integer.class, userId));
+        assertEquals(
+            "BUDGET_80",
+            jdbcTemplate.queryForObject("select type from alert_history where id = ?", String.class, oldReadId)
+        );
+    }
+
+    @Test
+    void ensureUpcomingPartitionsCreatesFutureMonths() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        YearMonth farFuture = YearMonth.from(now).plusMonths(3);
+        alertPartitionRepository.dropPartition(farFuture);
+
+        alertRetentionService.ensureUpcomingPartitions(now);
+
+        assertTrue(alertPartitionRepository.findPartitionMonths().contains(farFuture));
+    }
+
+    @Test
+    void concurrentPartitionCreationDoesNotFail() throws Exception {
+        YearMonth month = YearMonth.from(OffsetDateTime.now(ZoneOffset.UTC)).plusMonths(9);
+        alertPartitionRepository.dropPartition(month);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Void>> tasks = Collections.nCopies(4, () -> {
+                alertPartitionRepository.createPartition(month);
+                return null;
+            });
+            for (Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(alertPartitionRepository.findPartitionMonths().contains(month));
+        alertPartitionRepository.dropPartition(month);
+    }
+
+    @Test
+    void alertsWithoutMonthPartitionLandInDefaultAndMoveWhenPartitionIsCreated() {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        YearMonth farFuture = YearMonth.from(now).plusMonths(6);
+        alertPartitionRepository.dropPartition(farFuture);
+
+        UUID userId = UUID.randomUUID();
+        UUID alertId = insertAlert(userId, farFuture.atDay(3).atStartOfDay().atOffset(ZoneOffset.UTC), false);
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from alerts_default where id = ?", Integer.class, alertId));
+
+        alertRetentionService.ensurePartitions(farFuture, farFuture);
+
+        assertTrue(alertPartitionRepository.findPartitionMonths().contains(farFuture));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "select count(*) from alerts_default where id = ?", Integer.class, alertId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from alerts where id = ?", Integer.class, alertId));
+        alertPartitionRepository.dropPartition(farFuture);
+    }
+
+    private UUID insertAlert(UUID userId, OffsetDateTime createdAt, boolean read) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            insert into alerts (id, user_id, type, message, created_at, read_at, category_id, month, threshold_pct)
+            values (?, ?, 'BUDGET_80', 'Groceries reached 80%', ?, ?, ?, ?, 80)
+            """,
+            id,
+            userId,
+            createdAt,
+            read ? createdAt.plusHours(1) : null,
+            UUID.randomUUID(),
+            YearMonth.from(createdAt).atDay(1)
+        );
+        return id;
+    }
+}
@@ -0,0 +1,129 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AlertStreamIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void streamPushesBudgetChangesAndAlertsToConnectedMembers() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        String categoryId = createCategory(ownerId, "Groceries");
+        String budgetId = createBudget(ownerId, categoryId);
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + memberId + "\",\"role\":\"EDITOR\"}"))
+            .andExpect(status().isOk());
+
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/alerts/stream")
+                .header(AUTHORIZATION, bearer(memberId)))
+            .andExpect(request().asyncStarted())
+            .andReturn().getResponse();
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("""
+                    {
+                      "budgetId":"%s",
+                      "categoryId":"%s",
+                      "merchant":"Market",
+                      "amountCents":-9000,
+                      "transactionDate":"2026-03-04",
+                      "source":"MANUAL"
+                    }
+                    """.formatted(budgetId, categoryId)))
+            .andExpect(status().isCreated());
+
+        awaitContent(stream, "event:budget-changed");
+        awaitContent(stream, "event:alert");
+        assertTrue(stream.getContentAsString().contains(budgetId));
+        assertTrue(stream.getContentAsString().contains("BUDGET_80"));
+    }
+
+    @Test
+    void streamRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/alerts/stream"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Expected <" + expected + "> in stream but got: " + response.getContentAsString());
+            }
+            Thread.sleep(25);
+        }
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,218 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BudgetConditionalGetIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void summaryReturnsNotModifiedUntilTransactionChangesBudget() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, categoryId);
+        String summaryPath = "/api/budgets/" + budgetId + "/summary";
+
+        String etag = mockMvc.perform(get(summaryPath).header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get(summaryPath)
+                .header(AUTHORIZATION, bearer(userId))
+                .header(IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(ETAG, etag));
+
+        createTransaction(userId, budgetId, categoryId);
+
+        String nextEtag = mockMvc.perform(get(summaryPath)
+                .header(AUTHORIZATION, bearer(userId))
+                .header(IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ETAG);
+        assertNotEquals(etag, nextEtag);
+    }
+
+    @Test
+    void budgetAndTransactionListEtagsChangeWhenLimitIsUpserted() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Dining");
+        String budgetId = createBudget(userId, categoryId);
+
+        String budgetEtag = mockMvc.perform(get("/api/budgets/{budgetId}", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ETAG);
+        String listEtag = mockMvc.perform(get("/api/budgets/{budgetId}/transactions", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ETAG);
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/transactions", budgetId)
+                .header(AUTHORIZATION, bearer(userId))
+                .header(IF_NONE_MATCH, listEtag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/budgets/{budgetId}/categories/{categoryId}", budgetId, categoryId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"limitCents\":50000}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/budgets/{budgetId}", budgetId)
+                .header(AUTHORIZATION, bearer(userId))
+                .header(IF_NONE_MATCH, budgetEtag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/budgets/{budgetId}/transactions", budgetId)
+                .header(AUTHORIZATION, bearer(userId))
+                .header(IF_NONE_MATCH, listEtag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void cachedSummaryIsSharedByMembersAndRefreshedAfterWrites() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        String categoryId = createCategory(ownerId, "Household");
+        String budgetId = createBudget(ownerId, categoryId);
+
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + memberId + "\",\"role\":\"EDITOR\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(ownerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(0));
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(memberId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(0));
+
+        createTransaction(memberId, budgetId, categoryId);
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(ownerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(1200));
+
+        mockMvc.perform(put("/api/budgets/{budgetId}/categories/{categoryId}", budgetId, categoryId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"limitCents\":60000}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(memberId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalLimitCents").value(60000));
+    }
+
+    @Test
+    void conditionalGetStillEnforcesBudgetAccess() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        String categoryId = createCategory(ownerId, "Travel");
+        String budgetId = createBudget(ownerId, categoryId);
+
+        String etag = mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(ownerId)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(ETAG);
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(UUID.randomUUID()))
+                .header(IF_NONE_MATCH, etag))
+            .andExpect(status().isNotFound());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":25000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private void createTransaction(UUID userId, String budgetId, String categoryId) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "budgetId":"%s",
+                      "categoryId":"%s",
+                      "merchant":"Market",
+                      "amountCents":-1200,
+                      "transactionDate":"2026-03-04",
+                      "source":"MANUAL"
+                    }
+                    """.formatted(budgetId, categoryId)))
+            .andExpect(status().isCreated());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -4,6 +4,7 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -78,6 +79,157 @@ class BudgetPhaseCIntegrationTests extends IntegrationTestSupport {
             .andExpect(jsonPath("$[1].type").value("BUDGET_80"));
     }
 
+    @Test
+    void configuredThresholdsAreEvaluatedTogetherAndCategoryOverrideWins() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "alertThresholds":[90,50,75],
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000},
+                        {"categoryId":"%s","limitCents":10000,"alertThresholds":[100]}
+                      ]
+                    }
+                    """.formatted(groceries, dining)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.alertThresholds[0]").value(50))
+            .andExpect(jsonPath("$.alertThresholds[2]").value(90))
+            .andReturn().getResponse().getContentAsString();
+        String budgetId = JsonPath.read(budgetResponse, "$.id");
+
+        createTransaction(userId, budgetId, groceries, -8000, "2026-03-04");
+        createTransaction(userId, budgetId, dining, -9500, "2026-03-05");
+
+        mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].type").value("BUDGET_THRESHOLD"))
+            .andExpect(jsonPath("$[1].type").value("BUDGET_THRESHOLD"));
+
+        createTransaction(userId, budgetId, groceries, -1500, "2026-03-06");
+        createTransaction(userId, budgetId, dining, -500, "2026-03-07");
+
+        mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(4))
+            .andExpect(jsonPath("$[0].type").value("BUDGET_100"))
+            .andExpect(jsonPath("$[0].message").value("Dining reached 100% of your March budget"))
+            .andExpect(jsonPath("$[1].message").value("Groceries reached 90% of your March budget"));
+    }
+
+    @Test
+    void limitAndMembershipChangesReevaluateWholeBudgetForEveryRecipient() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        String groceries = createCategory(ownerId, "Groceries");
+        String dining = createCategory(ownerId, "Dining");
+        String budgetId = createBudget(ownerId, "March", "MONTHLY", "2026-03-01", groceries, 10000, "#4285F4");
+
+        mockMvc.perform(put("/api/budgets/{budgetId}/categories/{categoryId}", budgetId, dining)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"limitCents\":10000}"))
+            .andExpect(status().isOk());
+        createTransaction(ownerId, budgetId, groceries, -8500, "2026-03-04");
+        createTransaction(ownerId, budgetId, dining, -5000, "2026-03-05");
+
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + memberId + "\",\"role\":\"VIEWER\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(memberId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].message").value("Groceries reached 80% of your March budget"));
+
+        mockMvc.perform(put("/api/budgets/{budgetId}/categories/{categoryId}", budgetId, groceries)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"limitCents\":5000}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(ownerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].type").value("BUDGET_100"));
+        mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(memberId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void unreadCountAndBulkMarkReadUseSetBasedUpdates() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "March Groceries", "MONTHLY", "2026-03-01", categoryId, 10000, "#4285F4");
+
+        createTransaction(userId, budgetId, categoryId, -10000, "2026-03-04");
+
+        String alerts = mockMvc.perform(get("/api/alerts")
+                .header(AUTHORIZATION, bearer(userId))
+                .param("unreadOnly", "true"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String newestAlertId = JsonPath.read(alerts, "$[0].id");
+
+        mockMvc.perform(get("/api/alerts/unread-count")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.unreadCount").value(2));
+
+        mockMvc.perform(post("/api/alerts:markRead")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(UUID.randomUUID()))
+                .content("{\"alertIds\":[\"" + newestAlertId + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.markedCount").value(0));
+
+        mockMvc.perform(post("/api/alerts:markRead")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"alertIds\":[\"" + newestAlertId + "\"]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.markedCount").value(1));
+
+        mockMvc.perform(get("/api/alerts/unread-count")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.unreadCount").value(1));
+
+        mockMvc.perform(post("/api/alerts:markRead")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"before\":\"2999-01-01T00:00:00Z\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.markedCount").value(1));
+
+        mockMvc.perform(get("/api/alerts/unread-count")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.unreadCount").value(0));
+
+        mockMvc.perform(post("/api/alerts:markRead")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{}"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void rejectsTransactionOutsideBudgetPeriod() throws Exception {
         UUID userId = UUID.randomUUID();
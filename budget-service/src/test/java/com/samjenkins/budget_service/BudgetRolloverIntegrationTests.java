@@ -0,0 +1,205 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.service.BudgetRolloverService;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BudgetRolloverIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BudgetRolloverService budgetRolloverService;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void rolloverClonesMonthlyBudgetAndLimitsIntoNextPeriodOnce() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "Household", "MONTHLY", "2026-03-01", categoryId);
+
+        assertEquals(1, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 31)));
+
+        Map<String, Object> next = jdbcTemplate.queryForMap(
+            "select id, name, start_date, end_date, status from budget_plans where rolled_over_from_id = ?::uuid",
+            budgetId
+        );
+        assertEquals("Household", next.get("name"));
+        assertEquals("2026-04-01", next.get("start_date").toString());
+        assertEquals("2026-04-30", next.get("end_date").toString());
+        assertEquals("ACTIVE", next.get("status"));
+
+        Long clonedLimit = jdbcTemplate.queryForObject(
+            "select limit_cents from budget_category_limits where budget_id = ? and category_id = ?::uuid",
+            Long.class,
+            next.get("id"),
+            categoryId
+        );
+        assertEquals(25000L, clonedLimit);
+
+        assertEquals(0, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 31)));
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from budget_plans", Integer.class));
+    }
+
+    @Test
+    void rolloverCarriesMembersOfSharedBudget() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID editorId = UUID.randomUUID();
+        String categoryId = createCategory(ownerId, "Groceries");
+        String budgetId = createBudget(ownerId, "Household", "MONTHLY", "2026-03-01", categoryId);
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + editorId + "\",\"role\":\"EDITOR\"}"))
+            .andExpect(status().isOk());
+
+        assertEquals(1, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 31)));
+
+        UUID nextId = jdbcTemplate.queryForObject(
+            "select id from budget_plans where rolled_over_from_id = ?::uuid", UUID.class, budgetId);
+        assertEquals("EDITOR", jdbcTemplate.queryForObject(
+            "select role from budget_members where budget_id = ? and user_id = ?", String.class, nextId, editorId));
+        mockMvc.perform(get("/api/budgets/{budgetId}", nextId)
+                .header(AUTHORIZATION, bearer(editorId)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void rolloverSkipsBudgetsNotYetEndingAndArchivedBudgets() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Transit");
+        createBudget(userId, "Week 10", "WEEKLY", "2026-03-02", categoryId);
+        String archivedId = createBudget(userId, "Week 11", "WEEKLY", "2026-03-09", categoryId);
+        jdbcTemplate.update("update budget_plans set status = 'ARCHIVED' where id = ?::uuid", archivedId);
+
+        assertEquals(0, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 4)));
+        assertEquals(1, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 8)));
+
+        String nextStart = jdbcTemplate.queryForObject(
+            "select start_date::text from budget_plans where rolled_over_from_id is not null",
+            String.class
+        );
+        assertEquals("2026-03-09", nextStart);
+    }
+
+    @Test
+    void rolloverArchivesPredecessorOnceItsPeriodIsOver() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "Household", "MONTHLY", "2026-03-01", categoryId);
+
+        assertEquals(1, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 3, 31)));
+        assertEquals("ACTIVE", statusOf(budgetId));
+
+        assertEquals(0, budgetRolloverService.rolloverBatch(LocalDate.of(2026, 4, 1)));
+        assertEquals("ARCHIVED", statusOf(budgetId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from budget_plans where status = 'ACTIVE'", Integer.class));
+    }
+
+    @Test
+    void rolloverCatchesUpMissedPeriodsOneBatchAtATime() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        createBudget(userId, "Household", "MONTHLY", "2026-01-01", categoryId);
+
+        LocalDate today = LocalDate.of(2026, 3, 31);
+        assertEquals(1, budgetRolloverService.rolloverBatch(today));
+        assertEquals(1, budgetRolloverService.rolloverBatch(today));
+        assertEquals(1, budgetRolloverService.rolloverBatch(today));
+        assertEquals(0, budgetRolloverService.rolloverBatch(today));
+
+        assertEquals(
+            List.of("2026-01-01 ARCHIVED", "2026-02-01 ARCHIVED", "2026-03-01 ACTIVE", "2026-04-01 ACTIVE"),
+            jdbcTemplate.queryForList(
+                "select start_date::text || ' ' || status from budget_plans order by start_date", String.class)
+        );
+    }
+
+    @Test
+    void rolloverReportsChainsOlderThanCatchUpWindow() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String categoryId = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "Household", "MONTHLY", "2025-06-01", categoryId);
+
+        LocalDate today = LocalDate.of(2026, 3, 31);
+        assertEquals(0, budgetRolloverService.rolloverBatch(today));
+        assertEquals(List.of(UUID.fromString(budgetId)), budgetRolloverService.findSkipped(today, 10));
+    }
+
+    private String statusOf(String budgetId) {
+        return jdbcTemplate.queryForObject("select status from budget_plans where id = ?::uuid", String.class, budgetId);
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(
+        UUID userId,
+        String name,
+        String periodType,
+        String startDate,
+        String categoryId
+    ) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"%s",
+                      "periodType":"%s",
+                      "startDate":"%s",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":25000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(name, periodType, startDate, categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BudgetSnapshotIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void archivedReadsServeTheSnapshotTakenAtArchival() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+        createTransaction(userId, budgetId, groceries, -2500);
+
+        setStatus(userId, budgetId, "ARCHIVED");
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from budget_snapshots where budget_id = ?::uuid", Integer.class, budgetId));
+
+        String archivedSummary = mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+            .andExpect(jsonPath("$.totalSpentCents").value(2500))
+            .andReturn().getResponse().getContentAsString();
+
+        // Changing rows underneath proves archived reads no longer aggregate transactions.
+        jdbcTemplate.update("update transactions set amount_cents = -9900 where budget_id = ?::uuid", UUID.fromString(budgetId));
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(content().json(archivedSummary));
+        mockMvc.perform(get("/api/budgets/{budgetId}", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("ARCHIVED"))
+            .andExpect(jsonPath("$.categoryLimits[0].spentCents").value(2500));
+        mockMvc.perform(get("/api/budgets")
+                .header(AUTHORIZATION, bearer(userId))
+                .param("status", "ARCHIVED"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(budgetId))
+            .andExpect(jsonPath("$[0].categoryLimits[0].spentCents").value(2500));
+    }
+
+    @Test
+    void unarchivingDiscardsTheSnapshot() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+        createTransaction(userId, budgetId, groceries, -2500);
+
+        setStatus(userId, budgetId, "ARCHIVED");
+        setStatus(userId, budgetId, "ACTIVE");
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "select count(*) from budget_snapshots where budget_id = ?::uuid", Integer.class, budgetId));
+
+        createTransaction(userId, budgetId, groceries, -500);
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(3000));
+    }
+
+    private void setStatus(UUID userId, String budgetId, String budgetStatus) throws Exception {
+        mockMvc.perform(patch("/api/budgets/{budgetId}", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"status\":\"" + budgetStatus + "\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(budgetStatus));
+    }
+
+    private void createTransaction(UUID userId, String budgetId, String categoryId, long amountCents) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {"budgetId":"%s","categoryId":"%s","merchant":"Market","amountCents":%d,"transactionDate":"2026-03-02","source":"MANUAL"}
+                    """.formatted(budgetId, categoryId, amountCents)))
+            .andExpect(status().isCreated());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
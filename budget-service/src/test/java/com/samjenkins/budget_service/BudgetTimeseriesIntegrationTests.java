@@ -0,0 +1,150 @@
+package com.samjenkins.budget_service;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BudgetTimeseriesIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void timeseriesReturnsZeroFilledCumulativeDailySeries() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+
+        createTransaction(userId, budgetId, groceries, -1000, "2026-03-02");
+        createTransaction(userId, budgetId, null, -500, "2026-03-02");
+        createTransaction(userId, budgetId, null, 4000, "2026-03-05");
+        String moved = createTransaction(userId, budgetId, groceries, -2000, "2026-03-10");
+
+        mockMvc.perform(patch("/api/transactions/{transactionId}", moved)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"transactionDate\":\"2026-03-03\",\"amountCents\":-2500}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/timeseries", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.points.length()").value(31))
+            .andExpect(jsonPath("$.points[0].spentCents").value(0))
+            .andExpect(jsonPath("$.points[1].spentCents").value(1500))
+            .andExpect(jsonPath("$.points[2].spentCents").value(2500))
+            .andExpect(jsonPath("$.points[2].cumulativeSpentCents").value(4000))
+            .andExpect(jsonPath("$.points[4].incomeCents").value(4000))
+            .andExpect(jsonPath("$.points[9].spentCents").value(0))
+            .andExpect(jsonPath("$.points[30].day").value("2026-03-31"))
+            .andExpect(jsonPath("$.points[30].cumulativeSpentCents").value(4000))
+            .andExpect(jsonPath("$.points[30].cumulativeIncomeCents").value(4000));
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/timeseries", budgetId)
+                .param("categoryId", groceries)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categoryId").value(groceries))
+            .andExpect(jsonPath("$.points[1].spentCents").value(1000))
+            .andExpect(jsonPath("$.points[30].cumulativeSpentCents").value(3500))
+            .andExpect(jsonPath("$.points[30].cumulativeIncomeCents").value(0));
+    }
+
+    @Test
+    void timeseriesRequiresBudgetAccess() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        String budgetId = createBudget(ownerId, createCategory(ownerId, "Dining"));
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/timeseries", budgetId)
+                .header(AUTHORIZATION, bearer(UUID.randomUUID())))
+            .andExpect(status().isNotFound());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String createTransaction(
+        UUID userId,
+        String budgetId,
+        String categoryId,
+        long amountCents,
+        String transactionDate
+    ) throws Exception {
+        String categoryPart = categoryId == null ? "\"categoryId\":null," : "\"categoryId\":\"" + categoryId + "\",";
+        String response = mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{" +
+                    "\"budgetId\":\"" + budgetId + "\"," +
+                    categoryPart +
+                    "\"merchant\":\"Merchant\"," +
+                    "\"amountCents\":" + amountCents + "," +
+                    "\"transactionDate\":\"" + transactionDate + "\"," +
+                    "\"source\":\"MANUAL\"" +
+                    "}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,220 @@
+package com.samjenkins.budget_service;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BudgetTrendIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void trendsCompareEachCategoryAcrossPeriodsWithZeroFilledGaps() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String march = createBudget(userId, "March", "2026-03-01", groceries, dining);
+        String april = createBudget(userId, "April", "2026-04-01", groceries, dining);
+        String may = createBudget(userId, "May", "2026-05-01", groceries, dining);
+
+        createTransaction(userId, march, groceries, -1000, "2026-03-05");
+        createTransaction(userId, april, groceries, -3000, "2026-04-05");
+        createTransaction(userId, april, dining, -500, "2026-04-06");
+        createTransaction(userId, may, groceries, -2000, "2026-05-05");
+        setStatus(userId, march, "ARCHIVED");
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .param("periodType", "MONTHLY")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.periodType").value("MONTHLY"))
+            .andExpect(jsonPath("$.categories.length()").value(2))
+            .andExpect(jsonPath("$.categories[0].categoryName").value("Groceries"))
+            .andExpect(jsonPath("$.categories[0].points.length()").value(3))
+            .andExpect(jsonPath("$.categories[0].points[0].startDate").value("2026-03-01"))
+            .andExpect(jsonPath("$.categories[0].points[0].closed").value(true))
+            .andExpect(jsonPath("$.categories[0].points[0].deltaCents").value(nullValue()))
+            .andExpect(jsonPath("$.categories[0].points[1].spentCents").value(3000))
+            .andExpect(jsonPath("$.categories[0].points[1].averageCents").value(2000))
+            .andExpect(jsonPath("$.categories[0].points[1].deltaCents").value(2000))
+            .andExpect(jsonPath("$.categories[0].points[2].closed").value(false))
+            .andExpect(jsonPath("$.categories[0].points[2].trailingAverageCents").value(2000))
+            .andExpect(jsonPath("$.categories[0].points[2].deltaCents").value(-1000))
+            .andExpect(jsonPath("$.categories[1].categoryName").value("Dining"))
+            .andExpect(jsonPath("$.categories[1].points[0].spentCents").value(0))
+            .andExpect(jsonPath("$.categories[1].points[2].averageCents").value(167))
+            .andExpect(jsonPath("$.categories[1].points[2].deltaCents").value(-500));
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .param("periodType", "MONTHLY")
+                .param("periods", "2")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories[0].points.length()").value(2))
+            .andExpect(jsonPath("$.categories[0].points[0].startDate").value("2026-04-01"))
+            .andExpect(jsonPath("$.categories[0].points[0].deltaCents").value(2000));
+    }
+
+    @Test
+    void closedPeriodTotalsRefreshWhenBudgetIsUnarchived() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String march = createBudget(userId, "March", "2026-03-01", groceries);
+        createTransaction(userId, march, groceries, -1000, "2026-03-05");
+        setStatus(userId, march, "ARCHIVED");
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories[0].points[0].closed").value(true))
+            .andExpect(jsonPath("$.categories[0].points[0].spentCents").value(1000));
+
+        setStatus(userId, march, "ACTIVE");
+        createTransaction(userId, march, groceries, -500, "2026-03-06");
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories[0].points.length()").value(1))
+            .andExpect(jsonPath("$.categories[0].points[0].closed").value(false))
+            .andExpect(jsonPath("$.categories[0].points[0].spentCents").value(1500));
+    }
+
+    @Test
+    void closedPeriodTotalsPickUpBudgetsArchivedElsewhere() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String march = createBudget(userId, "March", "2026-03-01", groceries);
+        String april = createBudget(userId, "April", "2026-04-01", groceries);
+        createTransaction(userId, march, groceries, -1000, "2026-03-05");
+        createTransaction(userId, april, groceries, -2000, "2026-04-05");
+        setStatus(userId, march, "ARCHIVED");
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories[0].points[1].closed").value(false));
+
+        // Archived by the rollover job or another instance, so this instance never evicted anything.
+        jdbcTemplate.update(
+            "update budget_plans set status = 'ARCHIVED', version = version + 1 where id = ?::uuid",
+            april
+        );
+
+        mockMvc.perform(get("/api/budgets/trends")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories[0].points.length()").value(2))
+            .andExpect(jsonPath("$.categories[0].points[1].closed").value(true))
+            .andExpect(jsonPath("$.categories[0].points[1].spentCents").value(2000));
+    }
+
+    @Test
+    void trendsAreEmptyWithoutBudgets() throws Exception {
+        mockMvc.perform(get("/api/budgets/trends")
+                .param("periodType", "WEEKLY")
+                .header(AUTHORIZATION, bearer(UUID.randomUUID())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories.length()").value(0));
+    }
+
+    private void setStatus(UUID userId, String budgetId, String status) throws Exception {
+        mockMvc.perform(patch("/api/budgets/{budgetId}", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"status\":\"" + status + "\"}"))
+            .andExpect(status().isOk());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String name, String startDate, String... categoryIds) throws Exception {
+        StringBuilder limits = new StringBuilder();
+        for (String categoryId : categoryIds) {
+            if (!limits.isEmpty()) {
+                limits.append(',');
+            }
+            limits.append("{\"categoryId\":\"").append(categoryId).append("\",\"limitCents\":10000,\"colorHex\":\"#4285F4\"}");
+        }
+
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"%s",
+                      "periodType":"MONTHLY",
+                      "startDate":"%s",
+                      "categoryLimits":[%s]
+                    }
+                    """.formatted(name, startDate, limits)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private void createTransaction(
+        UUID userId,
+        String budgetId,
+        String categoryId,
+        long amountCents,
+        String transactionDate
+    ) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{" +
+                    "\"budgetId\":\"" + budgetId + "\"," +
+                    "\"categoryId\":\"" + categoryId + "\"," +
+                    "\"merchant\":\"Merchant\"," +
+                    "\"amountCents\":" + amountCents + "," +
+                    "\"transactionDate\":\"" + transactionDate + "\"," +
+                    "\"source\":\"MANUAL\"" +
+                    "}"))
+            .andExpect(status().isCreated());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,254 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BulkTransactionIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void recategorizeByIdsMovesSpendBetweenCategoryRollups() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String budgetId = createBudget(userId, "March", "2026-03-01", groceries, dining);
+        String first = createTransaction(userId, budgetId, groceries, -1500, "2026-03-02");
+        String second = createTransaction(userId, budgetId, groceries, -2500, "2026-03-03");
+        createTransaction(userId, budgetId, groceries, -700, "2026-03-04");
+
+        bulk(userId, budgetId, """
+            {"action":"RECATEGORIZE","transactionIds":["%s","%s"],"categoryId":"%s"}
+            """.formatted(first, second, dining))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected").value(2));
+
+        assertEquals(700L, spent(budgetId, groceries));
+        assertEquals(4000L, spent(budgetId, dining));
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(4700))
+            .andExpect(jsonPath("$.categories[0].spentCents").value(700))
+            .andExpect(jsonPath("$.categories[1].spentCents").value(4000));
+    }
+
+    @Test
+    void deleteByFilterRemovesOnlyMatchingRows() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String budgetId = createBudget(userId, "March", "2026-03-01", groceries, dining);
+        createTransaction(userId, budgetId, groceries, -1500, "2026-03-02");
+        createTransaction(userId, budgetId, groceries, -2500, "2026-03-20");
+        createTransaction(userId, budgetId, dining, -900, "2026-03-05");
+
+        bulk(userId, budgetId, """
+            {"action":"DELETE","filter":{"categoryId":"%s","maxDate":"2026-03-10"}}
+            """.formatted(groceries))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected").value(1));
+
+        assertEquals(2, jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId));
+        assertEquals(2500L, spent(budgetId, groceries));
+        assertEquals(900L, spent(budgetId, dining));
+    }
+
+    @Test
+    void moveKeepsCategoriesTheTargetBudgetTracks() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String source = createBudget(userId, "March", "2026-03-01", groceries, dining);
+        String target = createBudget(userId, "March shared", "2026-03-01", groceries);
+        String kept = createTransaction(userId, source, groceries, -1200, "2026-03-02");
+        String dropped = createTransaction(userId, source, dining, -800, "2026-03-03");
+
+        bulk(userId, source, """
+            {"action":"MOVE","transactionIds":["%s","%s"],"targetBudgetId":"%s"}
+            """.formatted(kept, dropped, target))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected").value(2));
+
+        assertEquals(0L, spent(source, groceries));
+        assertEquals(0L, spent(source, dining));
+        assertEquals(1200L, spent(target, groceries));
+        assertEquals(null, jdbcTemplate.queryForObject(
+            "select category_id from transactions where id = ?::uuid", UUID.class, dropped));
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", target)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(2000));
+    }
+
+    @Test
+    void moveRejectsTransactionsOutsideTargetPeriod() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String source = createBudget(userId, "March", "2026-03-01", groceries);
+        String target = createBudget(userId, "April", "2026-04-01", groceries);
+        String txnId = createTransaction(userId, source, groceries, -1200, "2026-03-02");
+
+        bulk(userId, source, """
+            {"action":"MOVE","transactionIds":["%s"],"targetBudgetId":"%s"}
+            """.formatted(txnId, target))
+            .andExpect(status().isBadRequest());
+
+        assertEquals(1200L, spent(source, groceries));
+    }
+
+    @Test
+    void unknownIdRollsBackWholeBatch() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "March", "2026-03-01", groceries);
+        String txnId = createTransaction(userId, budgetId, groceries, -1200, "2026-03-02");
+
+        bulk(userId, budgetId, """
+            {"action":"DELETE","transactionIds":["%s","%s"]}
+            """.formatted(txnId, UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId));
+        assertEquals(1200L, spent(budgetId, groceries));
+    }
+
+    @Test
+    void requiresExactlyOneSelector() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "March", "2026-03-01", groceries);
+
+        bulk(userId, budgetId, "{\"action\":\"DELETE\"}")
+            .andExpect(status().isBadRequest());
+        bulk(userId, budgetId, """
+            {"action":"DELETE","transactionIds":["%s"],"filter":{}}
+            """.formatted(UUID.randomUUID()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsEmptyFilterInsteadOfSelectingWholeBudget() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, "March", "2026-03-01", groceries);
+        createTransaction(userId, budgetId, groceries, -1200, "2026-03-02");
+        createTransaction(userId, budgetId, groceries, -300, "2026-03-20");
+
+        bulk(userId, budgetId, "{\"action\":\"DELETE\",\"filter\":{}}")
+            .andExpect(status().isBadRequest());
+
+        assertEquals(2, jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId));
+    }
+
+    @Test
+    void rejectsUsersWithoutAccess() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        String groceries = createCategory(ownerId, "Groceries");
+        String budgetId = createBudget(ownerId, "March", "2026-03-01", groceries);
+        createTransaction(ownerId, budgetId, groceries, -1200, "2026-03-02");
+
+        bulk(UUID.randomUUID(), budgetId, "{\"action\":\"DELETE\",\"filter\":{}}")
+            .andExpect(status().isNotFound());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId));
+    }
+
+    private ResultActions bulk(UUID userId, String budgetId, String body) throws Exception {
+        return mockMvc.perform(post("/api/budgets/{budgetId}/transactions:bulk", budgetId)
+            .contentType(APPLICATION_JSON)
+            .header(AUTHORIZATION, bearer(userId))
+            .content(body));
+    }
+
+    private long spent(String budgetId, String categoryId) {
+        return jdbcTemplate.query(
+            "select spent_cents from budget_category_spend where budget_id = ?::uuid and category_id = ?::uuid",
+            (rs, rowNum) -> rs.getLong(1), budgetId, categoryId
+        ).stream().findFirst().orElse(0L);
+    }
+
+    private String createTransaction(UUID userId, String budgetId, String categoryId, long amountCents, String date)
+        throws Exception {
+        String response = mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {"budgetId":"%s","categoryId":"%s","merchant":"Store","amountCents":%d,"transactionDate":"%s","source":"MANUAL"}
+                    """.formatted(budgetId, categoryId, amountCents, date)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.id");
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String name, String startDate, String... categoryIds) throws Exception {
+        StringBuilder limits = new StringBuilder();
+        for (String categoryId : categoryIds) {
+            if (!limits.isEmpty()) {
+                limits.append(',');
+            }
+            limits.append("{\"categoryId\":\"").append(categoryId).append("\",\"limitCents\":10000,\"colorHex\":\"#4285F4\"}");
+        }
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {"name":"%s","periodType":"MONTHLY","startDate":"%s","categoryLimits":[%s]}
+                    """.formatted(name, startDate, limits)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,168 @@
+package com.samjenkins.budget_service;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CategorizationRuleIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table categorization_rules, budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void importedTransactionsAreCategorizedUntilRuleIsDeleted() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String dining = createCategory(userId, "Dining");
+        String budgetId = createBudget(userId, dining);
+
+        String ruleResponse = mockMvc.perform(post("/api/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"categoryId\":\"" + dining + "\",\"matchType\":\"CONTAINS\",\"pattern\":\"coffee\",\"maxAmountCents\":-1}"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.matchType").value("CONTAINS"))
+            .andReturn().getResponse().getContentAsString();
+        String ruleId = JsonPath.read(ruleResponse, "$.id");
+
+        createTransaction(userId, budgetId, "Corner COFFEE", -450, "IMPORT")
+            .andExpect(jsonPath("$.categoryId").value(dining));
+        createTransaction(userId, budgetId, "Corner Coffee", 450, "IMPORT")
+            .andExpect(jsonPath("$.categoryId").value(nullValue()));
+        createTransaction(userId, budgetId, "Corner Coffee", -450, "MANUAL")
+            .andExpect(jsonPath("$.categoryId").value(nullValue()));
+
+        mockMvc.perform(get("/api/categorization-rules")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(delete("/api/categorization-rules/{ruleId}", ruleId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isNoContent());
+
+        createTransaction(userId, budgetId, "Corner Coffee", -450, "PLAID")
+            .andExpect(jsonPath("$.categoryId").value(nullValue()));
+    }
+
+    @Test
+    void createRejectsInvalidRegexAndForeignCategory() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String category = createCategory(userId, "Dining");
+        String foreign = createCategory(UUID.randomUUID(), "Other");
+
+        mockMvc.perform(post("/api/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"categoryId\":\"" + category + "\",\"matchType\":\"REGEX\",\"pattern\":\"([a-z\"}"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"categoryId\":\"" + foreign + "\",\"matchType\":\"PREFIX\",\"pattern\":\"sq\"}"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createRejectsRegexProneToCatastrophicBacktracking() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String category = createCategory(userId, "Dining");
+
+        mockMvc.perform(post("/api/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"categoryId\":\"" + category + "\",\"matchType\":\"REGEX\",\"pattern\":\"(a+)+$\"}"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"categoryId\":\"" + category + "\",\"matchType\":\"REGEX\",\"pattern\":\"(\\\\w)\\\\1\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private ResultActions createTransaction(
+        UUID userId,
+        String budgetId,
+        String merchant,
+        long amountCents,
+        String source
+    ) throws Exception {
+        return mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{" +
+                    "\"budgetId\":\"" + budgetId + "\"," +
+                    "\"merchant\":\"" + merchant + "\"," +
+                    "\"amountCents\":" + amountCents + "," +
+                    "\"transactionDate\":\"2026-03-10\"," +
+                    "\"source\":\"" + source + "\"" +
+                    "}"))
+            .andExpect(status().isCreated());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
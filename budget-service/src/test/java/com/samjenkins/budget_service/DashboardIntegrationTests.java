@@ -0,0 +1,137 @@
+package com.samjenkins.budget_service;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void dashboardReturnsActiveBudgetSummariesAndUnreadAlertCount() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String dining = createCategory(userId, "Dining");
+        String march = createBudget(userId, "March", "2026-03-01", groceries);
+        String april = createBudget(userId, "April", "2026-04-01", dining);
+        String february = createBudget(userId, "February", "2026-02-01", groceries);
+
+        createTransaction(userId, march, groceries, -9000, "2026-03-05");
+        createTransaction(userId, march, null, -1000, "2026-03-06");
+        createTransaction(userId, april, dining, 40000, "2026-04-02");
+
+        mockMvc.perform(patch("/api/budgets/{budgetId}", february)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"status\":\"ARCHIVED\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/dashboard")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.budgets.length()").value(2))
+            .andExpect(jsonPath("$.budgets[0].budgetId").value(april))
+            .andExpect(jsonPath("$.budgets[0].incomeCents").value(40000))
+            .andExpect(jsonPath("$.budgets[1].budgetId").value(march))
+            .andExpect(jsonPath("$.budgets[1].totalSpentCents").value(10000))
+            .andExpect(jsonPath("$.budgets[1].categories[0].spentCents").value(9000))
+            .andExpect(jsonPath("$.budgets[1].categories[1].categoryName").value("Uncategorized"))
+            .andExpect(jsonPath("$.unreadAlertCount").value(1));
+    }
+
+    @Test
+    void dashboardIsEmptyForUserWithoutBudgets() throws Exception {
+        mockMvc.perform(get("/api/dashboard")
+                .header(AUTHORIZATION, bearer(UUID.randomUUID())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.budgets.length()").value(0))
+            .andExpect(jsonPath("$.unreadAlertCount").value(0));
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String name, String startDate, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"%s",
+                      "periodType":"MONTHLY",
+                      "startDate":"%s",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(name, startDate, categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private void createTransaction(
+        UUID userId,
+        String budgetId,
+        String categoryId,
+        long amountCents,
+        String transactionDate
+    ) throws Exception {
+        String categoryPart = categoryId == null ? "\"categoryId\":null," : "\"categoryId\":\"" + categoryId + "\",";
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{" +
+                    "\"budgetId\":\"" + budgetId + "\"," +
+                    categoryPart +
+                    "\"merchant\":\"Merchant\"," +
+                    "\"amountCents\":" + amountCents + "," +
+                    "\"transactionDate\":\"" + transactionDate + "\"," +
+                    "\"source\":\"MANUAL\"" +
+                    "}"))
+            .andExpect(status().isCreated());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
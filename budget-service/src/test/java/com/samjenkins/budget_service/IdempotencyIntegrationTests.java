@@ -0,0 +1,204 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table idempotency_keys, budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void retriedCreateReplaysStoredResponseWithoutSecondWrite() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId);
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = createTransaction(userId, budgetId, key, -500)
+            .andExpect(status().isCreated())
+            .andReturn();
+        MvcResult retry = createTransaction(userId, budgetId, key, -500)
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andReturn();
+
+        assertEquals(
+            JsonPath.<String>read(first.getResponse().getContentAsString(), "$.id"),
+            JsonPath.<String>read(retry.getResponse().getContentAsString(), "$.id")
+        );
+        assertEquals(1, countTransactions(budgetId));
+    }
+
+    @Test
+    void reusingKeyForDifferentRequestIsRejected() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId);
+        String key = UUID.randomUUID().toString();
+
+        createTransaction(userId, budgetId, key, -500).andExpect(status().isCreated());
+        createTransaction(userId, budgetId, key, -700).andExpect(status().isUnprocessableEntity());
+
+        assertEquals(1, countTransactions(budgetId));
+    }
+
+    @Test
+    void keysAreScopedPerUser() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        String ownerBudget = createBudget(ownerId);
+        String otherBudget = createBudget(otherId);
+        String key = UUID.randomUUID().toString();
+
+        createTransaction(ownerId, ownerBudget, key, -500).andExpect(status().isCreated());
+        createTransaction(otherId, otherBudget, key, -500)
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    @Test
+    void concurrentDuplicatesAreSerializedOnTheKey() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId);
+        String key = UUID.randomUUID().toString();
+        int attempts = 6;
+
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                Callable<MvcResult> attempt = () -> {
+                    start.await();
+                    return createTransaction(userId, budgetId, key, -500).andReturn();
+                };
+                futures.add(executor.submit(attempt));
+            }
+            start.countDown();
+
+            Set<String> ids = new HashSet<>();
+            for (Future<MvcResult> future : futures) {
+                MvcResult result = future.get();
+                assertEquals(201, result.getResponse().getStatus());
+                ids.add(JsonPath.read(result.getResponse().getContentAsString(), "$.id"));
+            }
+            assertEquals(1, ids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, countTransactions(budgetId));
+    }
+
+    @Test
+    void differentKeysCreateSeparateTransactions() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId);
+
+        String first = createTransaction(userId, budgetId, UUID.randomUUID().toString(), -500)
+            .andReturn().getResponse().getContentAsString();
+        String second = createTransaction(userId, budgetId, UUID.randomUUID().toString(), -500)
+            .andReturn().getResponse().getContentAsString();
+
+        assertNotEquals(JsonPath.<String>read(first, "$.id"), JsonPath.<String>read(second, "$.id"));
+        assertEquals(2, countTransactions(budgetId));
+    }
+
+    @Test
+    void oversizedBodyIsRejectedBeforeClaimingTheKey() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId);
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .content("""
+                    {"budgetId":"%s","merchant":"%s","amountCents":-500,"transactionDate":"2026-03-05","source":"MANUAL"}
+                    """.formatted(budgetId, "x".repeat(2 * 1024 * 1024))))
+            .andExpect(status().isContentTooLarge());
+
+        assertEquals(0, countTransactions(budgetId));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from idempotency_keys", Integer.class));
+    }
+
+    private int countTransactions(String budgetId) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId);
+    }
+
+    private ResultActions createTransaction(
+        UUID userId,
+        String budgetId,
+        String key,
+        long amountCents
+    ) throws Exception {
+        return mockMvc.perform(post("/api/transactions")
+            .contentType(APPLICATION_JSON)
+            .header(AUTHORIZATION, bearer(userId))
+            .header("Idempotency-Key", key)
+            .content("""
+                {"budgetId":"%s","merchant":"Market","amountCents":%d,"transactionDate":"2026-03-05","source":"MANUAL"}
+                """.formatted(budgetId, amountCents)));
+    }
+
+    private String createBudget(UUID userId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[]
+                    }
+                    """))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
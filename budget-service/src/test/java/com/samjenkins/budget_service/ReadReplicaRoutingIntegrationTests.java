@@ -0,0 +1,123 @@
+package com.samjenkins.budget_service;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * The "replica" here is a second, independently migrated database rather than a streaming replica, so
+ * rows seeded only there show which pool served a read.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTests extends IntegrationTestSupport {
+
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("budget_replica")
+        .withUsername("budget")
+        .withPassword("budget");
+    static {
+        replica.start();
+        Flyway.configure()
+            .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+            .schemas("budget")
+            .defaultSchema("budget")
+            .createSchemas(true)
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.username", replica::getUsername);
+        registry.add("app.datasource.replica.password", replica::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        DriverManagerDataSource replicaDataSource = new DriverManagerDataSource(
+            replica.getJdbcUrl(),
+            replica.getUsername(),
+            replica.getPassword()
+        );
+        replicaDataSource.setSchema("budget");
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        String truncate = "truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade";
+        jdbcTemplate.execute(truncate);
+        replicaJdbcTemplate.execute(truncate);
+    }
+
+    @Test
+    void readOnlyRequestsUseReplicaUntilTheSameUserWrites() throws Exception {
+        UUID writerId = UUID.randomUUID();
+        UUID readerId = UUID.randomUUID();
+        seedReplicaBudget(writerId);
+        seedReplicaBudget(readerId);
+
+        mockMvc.perform(get("/api/budgets")
+                .header(AUTHORIZATION, bearer(writerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].name").value("Replica only"));
+
+        mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(writerId))
+                .content("{\"name\":\"Written\",\"periodType\":\"MONTHLY\",\"startDate\":\"2026-03-01\"}"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/budgets")
+                .header(AUTHORIZATION, bearer(writerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].name").value("Written"));
+
+        mockMvc.perform(get("/api/budgets")
+                .header(AUTHORIZATION, bearer(readerId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].name").value("Replica only"));
+    }
+
+    private void seedReplicaBudget(UUID ownerId) {
+        replicaJdbcTemplate.update("""
+            insert into budget_plans (id, owner_user_id, name, period_type, start_date, end_date)
+            values (?, ?, 'Replica only', 'MONTHLY', date '2026-03-01', date '2026-03-31')
+            """, UUID.randomUUID(), ownerId);
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
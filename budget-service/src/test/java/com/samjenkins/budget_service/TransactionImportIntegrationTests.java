@@ -0,0 +1,160 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionImportIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void reimportingOverlappingExportOnlyAddsNewRows() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+
+        importRows(userId, budgetId,
+            row(null, "SQ *COFFEE CO", -450, "2026-03-02"),
+            row(null, "SQ *COFFEE CO", -450, "2026-03-02"),
+            row(groceries, "Market", -3000, "2026-03-03"))
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(3))
+            .andExpect(jsonPath("$.skippedDuplicates").value(0));
+
+        importRows(userId, budgetId,
+            row(null, "Sq*Coffee Co.", -450, "2026-03-02"),
+            row(null, "Sq*Coffee Co.", -450, "2026-03-02"),
+            row(null, "Sq*Coffee Co.", -450, "2026-03-02"),
+            row(groceries, "MARKET", -3000, "2026-03-03"),
+            row(groceries, "Market", -1200, "2026-03-04"))
+            .andExpect(jsonPath("$.received").value(5))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.skippedDuplicates").value(3));
+
+        assertEquals(5, jdbcTemplate.queryForObject(
+            "select count(*) from transactions where budget_id = ?::uuid", Integer.class, budgetId));
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/summary", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalSpentCents").value(5550))
+            .andExpect(jsonPath("$.categories[0].spentCents").value(4200));
+        assertEquals(4200L, jdbcTemplate.queryForObject(
+            "select spent_cents from budget_category_spend where budget_id = ?::uuid and category_id = ?::uuid",
+            Long.class, budgetId, groceries));
+    }
+
+    @Test
+    void importSkipsRowsAlreadyEnteredThroughSingleCreate() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {"budgetId":"%s","merchant":"Hardware Store","amountCents":-2500,"transactionDate":"2026-03-05","source":"MANUAL"}
+                    """.formatted(budgetId)))
+            .andExpect(status().isCreated());
+
+        importRows(userId, budgetId, row(null, "HARDWARE STORE", -2500, "2026-03-05"))
+            .andExpect(jsonPath("$.imported").value(0))
+            .andExpect(jsonPath("$.skippedDuplicates").value(1));
+    }
+
+    @Test
+    void importRejectsRowsOutsideBudgetPeriod() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+
+        mockMvc.perform(post("/api/budgets/{budgetId}/transactions/import", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"transactions\":[" + row(null, "Market", -100, "2026-04-01") + "]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions importRows(UUID userId, String budgetId, String... rows) throws Exception {
+        return mockMvc.perform(post("/api/budgets/{budgetId}/transactions/import", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"source\":\"IMPORT\",\"transactions\":[" + String.join(",", rows) + "]}"))
+            .andExpect(status().isOk());
+    }
+
+    private static String row(String categoryId, String merchant, long amountCents, String transactionDate) {
+        String categoryPart = categoryId == null ? "" : "\"categoryId\":\"" + categoryId + "\",";
+        return "{" + categoryPart
+            + "\"merchant\":\"" + merchant + "\","
+            + "\"amountCents\":" + amountCents + ","
+            + "\"transactionDate\":\"" + transactionDate + "\"}";
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
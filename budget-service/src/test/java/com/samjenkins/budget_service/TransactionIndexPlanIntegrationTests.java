@@ -0,0 +1,133 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Seeds a few hundred budgets' worth of transactions and checks the planner picks the budget-leading
+ * indexes for the hot budget-scoped query shapes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionIndexPlanIntegrationTests extends IntegrationTestSupport {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID budgetId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+        jdbcTemplate.update("""
+            insert into budget_plans (id, owner_user_id, name, period_type, start_date, end_date)
+            select gen_random_uuid(), gen_random_uuid(), 'Budget ' || g, 'MONTHLY', ?, ?
+            from generate_series(1, 200) g
+            """, START, END);
+        jdbcTemplate.update("""
+            insert into categories (id, user_id, name)
+            select gen_random_uuid(), b.owner_user_id, 'Category ' || c
+            from budget_plans b
+            cross join generate_series(1, 5) c
+            """);
+        jdbcTemplate.update("""
+            insert into transactions (id, user_id, budget_id, category_id, merchant, amount_cents, transaction_date, created_at)
+            select gen_random_uuid(), b.owner_user_id, b.id, c.id, 'Merchant',
+                   case when g % 4 = 0 then 5000 + g else -(1 + (g * 7) % 3000) end,
+                   date '2026-03-01' + (g % 31),
+                   now() - g * interval '1 minute'
+            from budget_plans b
+            join categories c on c.user_id = b.owner_user_id
+            cross join generate_series(1, 60) g
+            """);
+        jdbcTemplate.update("""
+            insert into transactions (id, user_id, budget_id, merchant, amount_cents, transaction_date)
+            select gen_random_uuid(), b.owner_user_id, b.id, 'Merchant', -250, date '2026-03-01' + (g % 31)
+            from budget_plans b
+            cross join generate_series(1, 10) g
+            """);
+        jdbcTemplate.execute("vacuum analyze transactions");
+
+        Map<String, Object> sample = jdbcTemplate.queryForMap(
+            "select budget_id, category_id from transactions where category_id is not null limit 1"
+        );
+        budgetId = (UUID) sample.get("budget_id");
+        categoryId = (UUID) sample.get("category_id");
+    }
+
+    @Test
+    void categorySpendRollupUsesCoveringExpenseIndex() {
+        assertUsesIndex("idx_transactions_budget_category_expense", """
+            select category_id, coalesce(sum(-amount_cents), 0)
+            from transactions
+            where budget_id = ?
+              and category_id is not null
+              and amount_cents < 0
+            group by category_id
+            """, budgetId);
+    }
+
+    @Test
+    void singleCategorySumUsesCoveringExpenseIndex() {
+        assertUsesIndex("idx_transactions_budget_category_expense", """
+            select coalesce(sum(-amount_cents), 0)
+            from transactions
+            where budget_id = ?
+              and category_id = ?
+              and amount_cents < 0
+            """, budgetId, categoryId);
+    }
+
+    @Test
+    void budgetListingUsesBudgetDateIndex() {
+        assertUsesIndex("idx_transactions_budget_date", """
+            select *
+            from transactions
+            where budget_id = ?
+              and transaction_date between ? and ?
+            order by transaction_date desc, created_at desc
+            limit 50
+            """, budgetId, START, END);
+    }
+
+    @Test
+    void categoryListingUsesBudgetCategoryDateIndex() {
+        assertUsesIndex("idx_transactions_budget_category_date", """
+            select *
+            from transactions
+            where budget_id = ?
+              and category_id = ?
+              and transaction_date between ? and ?
+            order by transaction_date desc, created_at desc
+            limit 50
+            """, budgetId, categoryId, START, END);
+    }
+
+    @Test
+    void merchantSearchUsesTrigramIndexes() {
+        assertUsesIndex("idx_transactions_merchant_trgm", """
+            select *
+            from transactions
+            where merchant ilike ? or description ilike ?
+            """, "%coffee%", "%coffee%");
+    }
+
+    private void assertUsesIndex(String indexName, String sql, Object... args) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+        assertTrue(plan.contains(indexName), () -> "Expected " + indexName + " in plan:\n" + plan);
+    }
+}
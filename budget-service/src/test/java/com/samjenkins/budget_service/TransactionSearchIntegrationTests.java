@@ -0,0 +1,183 @@
+package com.samjenkins.budget_service;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionSearchIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void searchMatchesMerchantAndDescriptionAcrossOwnedAndSharedBudgets() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        UUID strangerId = UUID.randomUUID();
+        String own = createBudget(userId, "Own");
+        String shared = createBudget(otherId, "Shared");
+        String hidden = createBudget(strangerId, "Hidden");
+        addMember(otherId, shared, userId);
+
+        createTransaction(userId, own, "Corner Coffee", null, -450, "2026-03-03");
+        createTransaction(otherId, shared, "Market", "coffee beans", -1800, "2026-03-04");
+        createTransaction(otherId, shared, "Hardware", "nails", -900, "2026-03-05");
+        createTransaction(strangerId, hidden, "Coffee Club", null, -300, "2026-03-06");
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "COFFEE")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions.length()").value(2))
+            .andExpect(jsonPath("$.transactions[0].budgetId").value(shared))
+            .andExpect(jsonPath("$.transactions[0].description").value("coffee beans"))
+            .andExpect(jsonPath("$.transactions[1].merchant").value("Corner Coffee"))
+            .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "coffee")
+                .param("minAmount", "-1000")
+                .param("maxAmount", "-100")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions.length()").value(1))
+            .andExpect(jsonPath("$.transactions[0].amountCents").value(-450));
+    }
+
+    @Test
+    void searchPagesWithKeysetCursor() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String budgetId = createBudget(userId, "March");
+        for (int day = 1; day <= 5; day++) {
+            createTransaction(userId, budgetId, "Grocer " + day, null, -100L * day, "2026-03-0" + day);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/transactions/search")
+                .param("q", "grocer")
+                .param("limit", "2")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions.length()").value(2))
+            .andExpect(jsonPath("$.transactions[0].merchant").value("Grocer 5"))
+            .andExpect(jsonPath("$.transactions[1].merchant").value("Grocer 4"))
+            .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        String secondPage = mockMvc.perform(get("/api/transactions/search")
+                .param("q", "grocer")
+                .param("limit", "2")
+                .param("cursor", cursor)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions[0].merchant").value("Grocer 3"))
+            .andExpect(jsonPath("$.transactions[1].merchant").value("Grocer 2"))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "grocer")
+                .param("limit", "2")
+                .param("cursor", JsonPath.<String>read(secondPage, "$.nextCursor"))
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions.length()").value(1))
+            .andExpect(jsonPath("$.transactions[0].merchant").value("Grocer 1"))
+            .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void searchRejectsShortQueriesAndBadCursors() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "ab")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "coffee")
+                .param("cursor", "not-a-cursor")
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void addMember(UUID ownerId, String budgetId, UUID memberId) throws Exception {
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + memberId + "\",\"role\":\"VIEWER\"}"))
+            .andExpect(status().isOk());
+    }
+
+    private String createBudget(UUID userId, String name) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"%s",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[]
+                    }
+                    """.formatted(name)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private void createTransaction(
+        UUID userId,
+        String budgetId,
+        String merchant,
+        String description,
+        long amountCents,
+        String transactionDate
+    ) throws Exception {
+        String descriptionPart = description == null ? "" : "\"description\":\"" + description + "\",";
+        mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{" +
+                    "\"budgetId\":\"" + budgetId + "\"," +
+                    "\"merchant\":\"" + merchant + "\"," +
+                    descriptionPart +
+                    "\"amountCents\":" + amountCents + "," +
+                    "\"transactionDate\":\"" + transactionDate + "\"," +
+                    "\"source\":\"MANUAL\"" +
+                    "}"))
+            .andExpect(status().isCreated());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,156 @@
+package com.samjenkins.budget_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.support.JwtTestTokens;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionVersioningIntegrationTests extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTables() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+    }
+
+    @Test
+    void staleVersionIsRejectedWithoutLosingTheFirstEdit() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID editorId = UUID.randomUUID();
+        String groceries = createCategory(ownerId, "Groceries");
+        String budgetId = createBudget(ownerId, groceries);
+        addMember(ownerId, budgetId, editorId);
+        String txnId = createTransaction(ownerId, budgetId, groceries, -1500);
+
+        edit(ownerId, txnId, "{\"merchant\":\"Corner Market\",\"version\":0}")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.merchant").value("Corner Market"))
+            .andExpect(jsonPath("$.version").value(1));
+
+        edit(editorId, txnId, "{\"amountCents\":-9900,\"version\":0}")
+            .andExpect(status().isConflict());
+
+        assertEquals(-1500L, jdbcTemplate.queryForObject(
+            "select amount_cents from transactions where id = ?::uuid", Long.class, txnId));
+        assertEquals(1500L, jdbcTemplate.queryForObject(
+            "select spent_cents from budget_category_spend where budget_id = ?::uuid and category_id = ?::uuid",
+            Long.class, budgetId, groceries));
+
+        edit(editorId, txnId, "{\"amountCents\":-9900,\"version\":1}")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.merchant").value("Corner Market"))
+            .andExpect(jsonPath("$.amountCents").value(-9900))
+            .andExpect(jsonPath("$.version").value(2));
+        assertEquals(9900L, jdbcTemplate.queryForObject(
+            "select spent_cents from budget_category_spend where budget_id = ?::uuid and category_id = ?::uuid",
+            Long.class, budgetId, groceries));
+    }
+
+    @Test
+    void editWithoutVersionAppliesToCurrentRow() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String groceries = createCategory(userId, "Groceries");
+        String budgetId = createBudget(userId, groceries);
+        String txnId = createTransaction(userId, budgetId, groceries, -1500);
+
+        edit(userId, txnId, "{\"description\":\"weekly shop\"}")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("weekly shop"))
+            .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(get("/api/budgets/{budgetId}/transactions", budgetId)
+                .header(AUTHORIZATION, bearer(userId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].version").value(1));
+    }
+
+    private ResultActions edit(UUID userId, String txnId, String body) throws Exception {
+        return mockMvc.perform(patch("/api/transactions/{transactionId}", txnId)
+            .contentType(APPLICATION_JSON)
+            .header(AUTHORIZATION, bearer(userId))
+            .content(body));
+    }
+
+    private String createTransaction(UUID userId, String budgetId, String categoryId, long amountCents) throws Exception {
+        String response = mockMvc.perform(post("/api/transactions")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {"budgetId":"%s","categoryId":"%s","merchant":"Market","amountCents":%d,"transactionDate":"2026-03-02","source":"MANUAL"}
+                    """.formatted(budgetId, categoryId, amountCents)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.id");
+    }
+
+    private void addMember(UUID ownerId, String budgetId, UUID memberId) throws Exception {
+        mockMvc.perform(post("/api/budgets/{budgetId}/members", budgetId)
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(ownerId))
+                .content("{\"userId\":\"" + memberId + "\",\"role\":\"EDITOR\"}"))
+            .andExpect(status().isOk());
+    }
+
+    private String createCategory(UUID userId, String name) throws Exception {
+        String categoryResponse = mockMvc.perform(post("/api/categories")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("{\"name\":\"" + name + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(categoryResponse, "$.id");
+    }
+
+    private String createBudget(UUID userId, String categoryId) throws Exception {
+        String budgetResponse = mockMvc.perform(post("/api/budgets")
+                .contentType(APPLICATION_JSON)
+                .header(AUTHORIZATION, bearer(userId))
+                .content("""
+                    {
+                      "name":"March",
+                      "periodType":"MONTHLY",
+                      "startDate":"2026-03-01",
+                      "categoryLimits":[
+                        {"categoryId":"%s","limitCents":10000,"colorHex":"#4285F4"}
+                      ]
+                    }
+                    """.formatted(categoryId)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(budgetResponse, "$.id");
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + JwtTestTokens.valid(userId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.samjenkins.budget_service.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import com.samjenkins.budget_service.service.CategorizationMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Single-threaded matching throughput for a user with a few hundred rules, against the 100k
+ * transactions/second/core ingestion target. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class CategorizationMatcherBenchmarkTests {
+
+    private static final int MERCHANTS = 100_000;
+    private static final int ROUNDS = 10;
+    private static final double TARGET_PER_SECOND = 100_000;
+
+    @Test
+    void matcherSustainsTargetThroughputOnOneCore() {
+        List<CategorizationRule> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rules.add(rule(CategorizationMatchType.CONTAINS, "merchant" + i + "x"));
+        }
+        for (int i = 0; i < 80; i++) {
+            rules.add(rule(CategorizationMatchType.PREFIX, "store " + i + " "));
+        }
+        for (int i = 0; i < 5; i++) {
+            rules.add(rule(CategorizationMatchType.REGEX, "^pos\\s+" + i + "\\d{3}"));
+        }
+        CategorizationMatcher matcher = CategorizationMatcher.compile(rules);
+
+        Random random = new Random(42);
+        String[] merchants = new String[MERCHANTS];
+        for (int i = 0; i < MERCHANTS; i++) {
+            int k = random.nextInt(400);
+            merchants[i] = k < 200 ? "SQ *MERCHANT" + k + "X LLC"
+                : k < 300 ? "STORE " + (k - 200) + " MAIN ST"
+                : "POS 1234 UNKNOWN VENDOR " + k;
+        }
+
+        long hits = run(matcher, merchants, ROUNDS);
+        long start = System.nanoTime();
+        hits += run(matcher, merchants, ROUNDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double perSecond = MERCHANTS * (double) ROUNDS / seconds;
+
+        System.out.printf(
+            "categorization over %d rules: %,.0f transactions/s on one thread (%d hits)%n",
+            rules.size(), perSecond, hits
+        );
+        assertTrue(perSecond >= TARGET_PER_SECOND, () -> "Expected at least 100k/s, got " + perSecond);
+    }
+
+    private static long run(CategorizationMatcher matcher, String[] merchants, int rounds) {
+        long hits = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (String merchant : merchants) {
+                if (matcher.match(merchant, -100) != null) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static CategorizationRule rule(CategorizationMatchType type, String pattern) {
+        return CategorizationRule.builder()
+            .id(UUID.randomUUID())
+            .categoryId(UUID.randomUUID())
+            .matchType(type)
+            .pattern(pattern)
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.samjenkins.budget_service.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.dto.TransactionResponse;
+import com.samjenkins.budget_service.entity.Txn;
+import com.samjenkins.budget_service.repository.TxnRepository;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures bytes allocated on the calling thread to list a page of transactions, loading managed
+ * entities and mapping them versus selecting straight into the response record. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ListingAllocationBenchmarkTests extends IntegrationTestSupport {
+
+    private static final int PAGE_SIZE = 200;
+    private static final int ITERATIONS = 200;
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TxnRepository txnRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID budgetId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+
+        UUID userId = UUID.randomUUID();
+        budgetId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            insert into budget_plans (id, owner_user_id, name, period_type, start_date, end_date)
+            values (?, ?, 'Benchmark', 'MONTHLY', ?, ?)
+            """, budgetId, userId, START, END);
+        jdbcTemplate.update("""
+            insert into transactions (id, user_id, budget_id, merchant, description, amount_cents, transaction_date, created_at)
+            select gen_random_uuid(), ?, ?, 'Market ' || g, 'Weekly shop', -(1 + (g % 5000)), date '2026-03-01' + (g % 31),
+                   now() - g * interval '1 second'
+            from generate_series(1, ?) g
+            """, userId, budgetId, PAGE_SIZE * 5);
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntityMapping() {
+        List<TransactionResponse> viaEntities = listViaEntities();
+        List<TransactionResponse> viaProjection = listViaProjection();
+        assertEquals(viaEntities, viaProjection);
+
+        long entityBytes = allocatedBytes(this::listViaEntities);
+        long projectionBytes = allocatedBytes(this::listViaProjection);
+
+        System.out.printf(
+            "listing %d transactions: entities %,d B/op, projection %,d B/op (%.1fx)%n",
+            PAGE_SIZE,
+            entityBytes / ITERATIONS,
+            projectionBytes / ITERATIONS,
+            (double) entityBytes / projectionBytes
+        );
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    private List<TransactionResponse> listViaEntities() {
+        return transactionTemplate.execute(status -> entityManager.createQuery("""
+                select t from Txn t
+                where t.budgetId = :budgetId
+                  and t.transactionDate between :start and :end
+                order by t.transactionDate desc, t.createdAt desc
+                """, Txn.class)
+            .setParameter("budgetId", budgetId)
+            .setParameter("start", START)
+            .setParameter("end", END)
+            .setMaxResults(PAGE_SIZE)
+            .getResultList().stream()
+            .map(txn -> new TransactionResponse(
+                txn.getId(),
+                txn.getBudgetId(),
+                txn.getCategoryId(),
+                txn.getMerchant(),
+                txn.getDescription(),
+                txn.getAmountCents(),
+                txn.getTransactionDate(),
+                txn.getSource(),
+                txn.getCreatedAt(),
+                txn.getUpdatedAt(),
+                txn.getVersion()
+            ))
+            .toList());
+    }
+
+    private List<TransactionResponse> listViaProjection() {
+        return transactionTemplate.execute(status ->
+            txnRepository.findResponsesByBudget(budgetId, START, END, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    private long allocatedBytes(Supplier<List<TransactionResponse>> listing) {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            listing.get();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += listing.get().size();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(PAGE_SIZE * ITERATIONS, rows);
+        return allocated;
+    }
+}
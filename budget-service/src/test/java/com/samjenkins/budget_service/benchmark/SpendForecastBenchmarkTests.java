@@ -0,0 +1,102 @@
+package com.samjenkins.budget_service.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.repository.BudgetSpendRepository;
+import com.samjenkins.budget_service.repository.TxnRepository;
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Compares the running-total lookup used by alert evaluation against re-aggregating the category's
+ * transactions on every write. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class SpendForecastBenchmarkTests extends IntegrationTestSupport {
+
+    private static final int TRANSACTIONS = 100_000;
+    private static final int EVALUATIONS = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BudgetSpendRepository budgetSpendRepository;
+
+    @Autowired
+    private TxnRepository txnRepository;
+
+    private UUID budgetId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("truncate table budget_members, budget_category_limits, budget_plans, alerts, transactions, budgets, categories cascade");
+
+        UUID userId = UUID.randomUUID();
+        budgetId = UUID.randomUUID();
+        categoryId = UUID.randomUUID();
+        jdbcTemplate.update("insert into categories (id, user_id, name) values (?, ?, 'Groceries')", categoryId, userId);
+        jdbcTemplate.update("""
+            insert into budget_plans (id, owner_user_id, name, period_type, start_date, end_date)
+            values (?, ?, 'Benchmark', 'MONTHLY', date '2026-03-01', date '2026-03-31')
+            """, budgetId, userId);
+        jdbcTemplate.update("""
+            insert into transactions (id, user_id, budget_id, category_id, merchant, amount_cents, transaction_date)
+            select gen_random_uuid(), ?, ?, ?, 'Market', -(1 + (g % 5000)), date '2026-03-01' + (g % 31)
+            from generate_series(1, ?) g
+            """, userId, budgetId, categoryId, TRANSACTIONS);
+        jdbcTemplate.update("""
+            insert into budget_category_spend (budget_id, category_id, spent_cents)
+            select budget_id, category_id, sum(-amount_cents)
+            from transactions
+            where budget_id = ?
+            group by budget_id, category_id
+            """, budgetId);
+        jdbcTemplate.execute("analyze transactions");
+    }
+
+    @Test
+    void runningTotalLookupOutperformsFullScan() {
+        long incrementalSpend = budgetSpendRepository.findCategorySpend(budgetId, categoryId);
+        long scannedSpend = txnRepository.sumCategoryExpensesByBudget(budgetId, categoryId);
+        assertEquals(scannedSpend, incrementalSpend);
+
+        long incrementalNanos = time(() -> budgetSpendRepository.findCategorySpend(budgetId, categoryId));
+        long scanNanos = time(() -> txnRepository.sumCategoryExpensesByBudget(budgetId, categoryId));
+
+        System.out.printf(
+            "spend lookup over %,d transactions: running total %.1f us/op, full scan %.1f us/op (%.0fx)%n",
+            TRANSACTIONS,
+            incrementalNanos / 1_000.0 / EVALUATIONS,
+            scanNanos / 1_000.0 / EVALUATIONS,
+            (double) scanNanos / incrementalNanos
+        );
+        assertTrue(incrementalNanos < scanNanos);
+    }
+
+    private long time(LongSupplier evaluation) {
+        for (int i = 0; i < EVALUATIONS / 10; i++) {
+            evaluation.getAsLong();
+        }
+        long started = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < EVALUATIONS; i++) {
+            checksum += evaluation.getAsLong();
+        }
+        long elapsed = System.nanoTime() - started;
+        assertTrue(checksum > 0);
+        return elapsed;
+    }
+}
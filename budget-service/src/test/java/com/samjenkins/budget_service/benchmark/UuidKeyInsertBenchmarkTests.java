@@ -0,0 +1,93 @@
+package com.samjenkins.budget_service.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.samjenkins.budget_service.support.IntegrationTestSupport;
+import com.samjenkins.budget_service.util.UuidV7;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Inserts into transactions-shaped tables that already hold a large primary key index, keyed either by
+ * random v4 or time-ordered v7 UUIDs, and compares throughput and resulting index size. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UuidKeyInsertBenchmarkTests extends IntegrationTestSupport {
+
+    private static final int EXISTING_ROWS = 1_000_000;
+    private static final int INSERTED_ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("drop table if exists bench_txn_v4, bench_txn_v7");
+    }
+
+    @Test
+    void timeOrderedKeysInsertFasterAndKeepIndexCompact() {
+        long v4Nanos = seedAndInsert("bench_txn_v4", "gen_random_uuid()", UUID::randomUUID);
+        long v7Nanos = seedAndInsert("bench_txn_v7", "uuid_generate_v7()", UuidV7::next);
+
+        long v4IndexBytes = indexSize("bench_txn_v4");
+        long v7IndexBytes = indexSize("bench_txn_v7");
+        System.out.printf(
+            "insert %,d rows over %,d existing: v4 %,.0f rows/s (pk %,d kB), v7 %,.0f rows/s (pk %,d kB)%n",
+            INSERTED_ROWS,
+            EXISTING_ROWS,
+            INSERTED_ROWS / (v4Nanos / 1e9),
+            v4IndexBytes / 1024,
+            INSERTED_ROWS / (v7Nanos / 1e9),
+            v7IndexBytes / 1024
+        );
+        assertTrue(v7IndexBytes < v4IndexBytes);
+    }
+
+    private long seedAndInsert(String table, String seedIdExpression, Supplier<UUID> ids) {
+        jdbcTemplate.execute("create table " + table + " (like transactions including defaults)");
+        jdbcTemplate.execute("alter table " + table + " add primary key (id)");
+        jdbcTemplate.update("""
+            insert into %s (id, user_id, merchant, amount_cents, transaction_date)
+            select %s, gen_random_uuid(), 'Seed', -100, date '2026-03-01'
+            from generate_series(1, ?)
+            """.formatted(table, seedIdExpression), EXISTING_ROWS);
+        jdbcTemplate.execute("vacuum analyze " + table);
+
+        UUID userId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2026, 3, 15);
+        String insert = "insert into " + table + " (id, user_id, merchant, amount_cents, transaction_date) values (?, ?, ?, ?, ?)";
+        long started = System.nanoTime();
+        for (int offset = 0; offset < INSERTED_ROWS; offset += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new Object[] {ids.get(), userId, "Merchant", -1500L, date});
+            }
+            jdbcTemplate.batchUpdate(insert, batch);
+        }
+        return System.nanoTime() - started;
+    }
+
+    private long indexSize(String table) {
+        Long bytes = jdbcTemplate.queryForObject(
+            "select pg_relation_size(indexrelid) from pg_index where indrelid = ?::regclass and indisprimary",
+            Long.class,
+            table
+        );
+        return bytes == null ? 0L : bytes;
+    }
+}
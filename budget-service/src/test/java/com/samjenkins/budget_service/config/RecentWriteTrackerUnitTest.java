@@ -0,0 +1,43 @@
+package com.samjenkins.budget_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RecentWriteTrackerUnitTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final RecentWriteTracker tracker = new RecentWriteTracker(
+        new ReplicaDataSourceProperties(null, null, null, Duration.ofSeconds(5), 100L),
+        Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @Test
+    void writeReportedByAnotherInstancePinsReadsWithinWindow() {
+        UUID userId = UUID.randomUUID();
+        assertFalse(tracker.isRecentWriter(userId));
+
+        tracker.recordWrite(userId, NOW.minusSeconds(2));
+
+        assertTrue(tracker.isRecentWriter(userId));
+    }
+
+    @Test
+    void ignoresReportedWritesOutsideWindowOrInFuture() {
+        UUID stale = UUID.randomUUID();
+        UUID future = UUID.randomUUID();
+
+        tracker.recordWrite(stale, NOW.minusSeconds(10));
+        tracker.recordWrite(future, NOW.plusSeconds(3600));
+
+        assertFalse(tracker.isRecentWriter(stale));
+        assertFalse(tracker.isRecentWriter(future));
+    }
+}
@@ -0,0 +1,61 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.samjenkins.budget_service.repository.AlertRepository;
+import com.samjenkins.budget_service.repository.BudgetMemberRepository;
+import com.samjenkins.budget_service.repository.BudgetRepository;
+import com.samjenkins.budget_service.repository.BudgetSpendRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AlertServiceUnitTest {
+
+    @Mock
+    private AlertRepository alertRepository;
+
+    @Mock
+    private BudgetSpendRepository budgetSpendRepository;
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private BudgetMemberRepository budgetMemberRepository;
+
+    @Mock
+    private AlertStreamHub alertStreamHub;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AlertService alertService;
+
+    @Test
+    void budgetEvaluationFailureDoesNotReachCaller() {
+        UUID budgetId = UUID.randomUUID();
+        when(budgetRepository.findById(budgetId)).thenThrow(new RuntimeException("alert down"));
+
+        assertDoesNotThrow(() -> alertService.enqueueBudgetEvaluationAfterCommit(budgetId));
+        verify(budgetRepository).findById(budgetId);
+    }
+
+    @Test
+    void categoryEvaluationFailureDoesNotReachCaller() {
+        UUID budgetId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        when(budgetRepository.findById(budgetId)).thenThrow(new RuntimeException("alert down"));
+
+        assertDoesNotThrow(() -> alertService.enqueueCategoryEvaluationAfterCommit(budgetId, categoryId));
+        verify(budgetRepository).findById(budgetId);
+    }
+}
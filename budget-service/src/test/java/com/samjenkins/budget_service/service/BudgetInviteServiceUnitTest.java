@@ -43,6 +43,12 @@ class BudgetInviteServiceUnitTest {
     @Mock
     private BudgetMemberRepository budgetMemberRepository;
 
+    @Mock
+    private BudgetVersionService budgetVersionService;
+
+    @Mock
+    private AlertService alertService;
+
     @Mock
     private EntityManager entityManager;
 
@@ -154,5 +160,6 @@ class BudgetInviteServiceUnitTest {
         assertEquals(userId, invite.getAcceptedByUserId());
         verify(budgetMemberRepository).save(any());
         verify(budgetInviteRepository).save(invite);
+        verify(alertService).enqueueBudgetEvaluationAfterCommit(budgetId);
     }
 }
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.samjenkins.budget_service.dto.UpsertBudgetCategoryLimitRequest;
@@ -13,9 +15,9 @@ import com.samjenkins.budget_service.dto.CreateBudgetRequest;
 import com.samjenkins.budget_service.dto.UpdateBudgetRequest;
 import com.samjenkins.budget_service.entity.Budget;
 import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
-import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.entity.BudgetPeriodType;
 import com.samjenkins.budget_service.entity.BudgetStatus;
+import com.samjenkins.budget_service.entity.Category;
 import com.samjenkins.budget_service.exception.BadRequestException;
 import com.samjenkins.budget_service.exception.ForbiddenException;
 import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
@@ -46,6 +48,9 @@ class BudgetServiceUnitTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryNameCache categoryNameCache;
+
     @Mock
     private TxnRepository txnRepository;
 
@@ -55,6 +60,15 @@ class BudgetServiceUnitTest {
     @Mock
     private BudgetAccessService budgetAccessService;
 
+    @Mock
+    private BudgetVersionService budgetVersionService;
+
+    @Mock
+    private BudgetSummaryService budgetSummaryService;
+
+    @Mock
+    private BudgetSnapshotService budgetSnapshotService;
+
     @Mock
     private EntityManager entityManager;
 
@@ -68,7 +82,8 @@ class BudgetServiceUnitTest {
             BudgetPeriodType.WEEKLY,
             LocalDate.of(2026, 3, 3),
             "USD",
-            List.of()
+            List.of(),
+            null
         );
 
         assertThrows(BadRequestException.class, () -> budgetService.create(UUID.randomUUID(), request));
@@ -82,7 +97,8 @@ class BudgetServiceUnitTest {
             BudgetPeriodType.MONTHLY,
             LocalDate.of(2026, 3, 1),
             "usd",
-            List.of()
+            List.of(),
+            List.of(100, 50, 50)
         );
 
         when(budgetRepository.saveAndFlush(any())).thenAnswer(inv -> {
@@ -95,6 +111,7 @@ class BudgetServiceUnitTest {
         BudgetResponse response = budgetService.create(userId, request);
 
         assertEquals("USD", response.currency());
+        assertEquals(List.of(50, 100), response.alertThresholds());
         assertEquals(LocalDate.of(2026, 3, 31), response.endDate());
     }
 
@@ -102,7 +119,7 @@ class BudgetServiceUnitTest {
     void listRejectsInvalidDateRange() {
         assertThrows(
             BadRequestException.class,
-            () -> budgetService.list(
+            () -> budgetService.listJson(
                 UUID.randomUUID(),
                 null,
                 null,
@@ -116,7 +133,7 @@ class BudgetServiceUnitTest {
     void updateRejectsEmptyPatch() {
         UUID userId = UUID.randomUUID();
         UUID budgetId = UUID.randomUUID();
-        assertThrows(BadRequestException.class, () -> budgetService.update(userId, budgetId, new UpdateBudgetRequest(null, null)));
+        assertThrows(BadRequestException.class, () -> budgetService.update(userId, budgetId, new UpdateBudgetRequest(null, null, null)));
     }
 
     @Test
@@ -138,10 +155,31 @@ class BudgetServiceUnitTest {
         when(budgetRepository.saveAndFlush(budget)).thenReturn(budget);
         when(txnRepository.summarizeBudgetCategoryExpenses(budgetId)).thenReturn(List.of());
 
-        var response = budgetService.update(userId, budgetId, new UpdateBudgetRequest("After", BudgetStatus.ARCHIVED));
+        var response = budgetService.update(userId, budgetId, new UpdateBudgetRequest("After", BudgetStatus.ARCHIVED, null));
 
         assertEquals("After", response.name());
         assertEquals(BudgetStatus.ARCHIVED, response.status());
+        verify(budgetSnapshotService).capture(eq(budget), eq(response), any());
+    }
+
+    @Test
+    void unarchiveDiscardsSnapshot() {
+        UUID userId = UUID.randomUUID();
+        UUID budgetId = UUID.randomUUID();
+        Budget archived = Budget.builder()
+            .id(budgetId)
+            .ownerUserId(userId)
+            .status(BudgetStatus.ARCHIVED)
+            .build();
+
+        when(budgetAccessService.requireWriteAccessAllowArchived(userId, budgetId)).thenReturn(archived);
+        when(budgetRepository.saveAndFlush(archived)).thenReturn(archived);
+        when(txnRepository.summarizeBudgetCategoryExpenses(budgetId)).thenReturn(List.of());
+
+        budgetService.update(userId, budgetId, new UpdateBudgetRequest(null, BudgetStatus.ACTIVE, null));
+
+        verify(budgetSnapshotService).discard(budgetId);
+        verify(budgetSnapshotService, never()).capture(any(), any(), any());
     }
 
     @Test
@@ -158,12 +196,12 @@ class BudgetServiceUnitTest {
 
         assertThrows(
             ForbiddenException.class,
-            () -> budgetService.update(userId, budgetId, new UpdateBudgetRequest("Renamed", null))
+            () -> budgetService.update(userId, budgetId, new UpdateBudgetRequest("Renamed", null, null))
         );
     }
 
     @Test
-    void upsertCategoryLimitContinuesWhenAlertEvaluationFails() {
+    void upsertCategoryLimitEnqueuesAlertEvaluation() {
         UUID userId = UUID.randomUUID();
         UUID budgetId = UUID.randomUUID();
         UUID categoryId = UUID.randomUUID();
@@ -173,7 +211,6 @@ class BudgetServiceUnitTest {
             .ownerUserId(userId)
             .status(BudgetStatus.ACTIVE)
             .build();
-        Category category = Category.builder().id(categoryId).userId(userId).name("Food").build();
         BudgetCategoryLimit savedLimit = BudgetCategoryLimit.builder()
             .id(UUID.randomUUID())
             .budgetId(budgetId)
@@ -186,20 +223,21 @@ class BudgetServiceUnitTest {
             .build();
 
         when(budgetAccessService.requireWriteAccess(userId, budgetId)).thenReturn(budget);
-        when(categoryRepository.findByIdAndUserId(categoryId, userId)).thenReturn(Optional.of(category));
+        when(categoryRepository.findByIdAndUserId(categoryId, userId))
+            .thenReturn(Optional.of(Category.builder().id(categoryId).userId(userId).name("Food").build()));
         when(budgetCategoryLimitRepository.findByBudgetIdAndCategoryId(budgetId, categoryId)).thenReturn(Optional.empty());
         when(budgetCategoryLimitRepository.saveAndFlush(any())).thenReturn(savedLimit);
         when(txnRepository.summarizeBudgetCategoryExpenses(budgetId)).thenReturn(List.of());
-        doThrow(new RuntimeException("alert down")).when(alertService).evaluateBudgetThresholdsForBudget(budgetId, categoryId);
 
         var response = budgetService.upsertCategoryLimit(
             userId,
             budgetId,
             categoryId,
-            new UpsertBudgetCategoryLimitRequest(12000, "#34A853")
+            new UpsertBudgetCategoryLimitRequest(12000, "#34A853", null)
         );
 
         assertNotNull(response);
         assertEquals(12000, response.limitCents());
+        verify(alertService).enqueueBudgetEvaluationAfterCommit(budgetId);
     }
 }
@@ -0,0 +1,97 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.samjenkins.budget_service.dto.BudgetSummaryResponse;
+import com.samjenkins.budget_service.entity.BudgetPeriodType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BudgetSummaryCacheUnitTest {
+
+    private final BudgetSummaryCache cache = new BudgetSummaryCache(100);
+
+    @Test
+    void concurrentReadersOfOneVersionShareOneLoad() throws Exception {
+        UUID budgetId = UUID.randomUUID();
+        BudgetSummaryResponse summary = summary(budgetId);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BudgetSummaryResponse> first = executor.submit(() -> cache.get(budgetId, 1, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return summary;
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<BudgetSummaryResponse> second = executor.submit(() -> cache.get(budgetId, 1, () -> {
+                loads.incrementAndGet();
+                return summary;
+            }));
+            // Another key is not blocked while the first load is still running.
+            UUID otherId = UUID.randomUUID();
+            assertEquals(otherId, cache.get(otherId, 1, () -> summary(otherId)).budgetId());
+
+            release.countDown();
+            assertSame(summary, first.get(5, TimeUnit.SECONDS));
+            assertSame(summary, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        UUID budgetId = UUID.randomUUID();
+        BudgetSummaryResponse summary = summary(budgetId);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(budgetId, 1, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertNull(cache.getIfCurrent(budgetId, 1));
+        assertSame(summary, cache.get(budgetId, 1, () -> summary));
+        assertSame(summary, cache.getIfCurrent(budgetId, 1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static BudgetSummaryResponse summary(UUID budgetId) {
+        return new BudgetSummaryResponse(
+            budgetId,
+            "March",
+            BudgetPeriodType.MONTHLY,
+            LocalDate.of(2026, 3, 1),
+            LocalDate.of(2026, 3, 31),
+            0L,
+            0L,
+            0L,
+            null,
+            0L,
+            0L,
+            0L,
+            List.of()
+        );
+    }
+}
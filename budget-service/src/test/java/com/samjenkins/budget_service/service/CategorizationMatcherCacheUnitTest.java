@@ -0,0 +1,49 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import com.samjenkins.budget_service.repository.CategorizationRuleRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CategorizationMatcherCacheUnitTest {
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    @Test
+    void expiredEntryPicksUpRulesWrittenElsewhere() {
+        UUID userId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        CategorizationRule rule = CategorizationRule.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .categoryId(categoryId)
+            .matchType(CategorizationMatchType.CONTAINS)
+            .pattern("coffee")
+            .build();
+        when(categorizationRuleRepository.findAllByUserIdOrderByPriorityAscIdAsc(userId))
+            .thenReturn(List.of())
+            .thenReturn(List.of(rule));
+        CategorizationMatcherCache cache = new CategorizationMatcherCache(
+            categorizationRuleRepository, 100, Duration.ZERO
+        );
+
+        assertNull(cache.matcherFor(userId).match("Corner Coffee", 450));
+        // No local eviction: the rule was added on another instance.
+        assertEquals(categoryId, cache.matcherFor(userId).match("Corner Coffee", 450));
+        verify(categorizationRuleRepository, times(2)).findAllByUserIdOrderByPriorityAscIdAsc(userId);
+    }
+}
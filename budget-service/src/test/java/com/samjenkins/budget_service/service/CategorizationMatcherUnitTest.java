@@ -0,0 +1,132 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import com.samjenkins.budget_service.entity.CategorizationRule;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CategorizationMatcherUnitTest {
+
+    private static final UUID GROCERIES = UUID.randomUUID();
+    private static final UUID DINING = UUID.randomUUID();
+    private static final UUID TRANSIT = UUID.randomUUID();
+    private static final UUID SUBSCRIPTIONS = UUID.randomUUID();
+
+    @Test
+    void containsMatchesAnywhereIgnoringCase() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(GROCERIES, CategorizationMatchType.CONTAINS, "market"),
+            rule(DINING, CategorizationMatchType.CONTAINS, "café")
+        ));
+
+        assertEquals(GROCERIES, matcher.match("WHOLE FOODS MARKET #123", -5000));
+        assertEquals(DINING, matcher.match("Le Petit CAFÉ", -1200));
+        assertNull(matcher.match("Shell Oil", -4000));
+    }
+
+    @Test
+    void containsFindsOverlappingPatternsThroughFailureLinks() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(TRANSIT, CategorizationMatchType.CONTAINS, "uber"),
+            rule(DINING, CategorizationMatchType.CONTAINS, "ubereats")
+        ));
+
+        assertEquals(TRANSIT, matcher.match("UBEREATS ORDER", -2500));
+        assertEquals(DINING, CategorizationMatcher.compile(List.of(
+            rule(DINING, CategorizationMatchType.CONTAINS, "bereats"),
+            rule(TRANSIT, CategorizationMatchType.CONTAINS, "uber")
+        )).match("xubereats", -2500));
+    }
+
+    @Test
+    void prefixOnlyMatchesAtStart() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(TRANSIT, CategorizationMatchType.PREFIX, "mta")
+        ));
+
+        assertEquals(TRANSIT, matcher.match("MTA*NYCT PAYGO", -290));
+        assertNull(matcher.match("SQ *MTA GIFT SHOP", -290));
+    }
+
+    @Test
+    void regexIsCaseInsensitive() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(SUBSCRIPTIONS, CategorizationMatchType.REGEX, "^(netflix|spotify)\\b")
+        ));
+
+        assertEquals(SUBSCRIPTIONS, matcher.match("Spotify USA", -1099));
+        assertNull(matcher.match("Not Netflix", -1099));
+    }
+
+    @Test
+    void firstMatchingRuleWinsAcrossMatchTypes() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(SUBSCRIPTIONS, CategorizationMatchType.REGEX, "prime"),
+            rule(GROCERIES, CategorizationMatchType.PREFIX, "amazon"),
+            rule(DINING, CategorizationMatchType.CONTAINS, "amazon")
+        ));
+
+        assertEquals(SUBSCRIPTIONS, matcher.match("Amazon Prime", -1499));
+        assertEquals(GROCERIES, matcher.match("Amazon Fresh", -6000));
+        assertEquals(DINING, matcher.match("Pay Amazon", -6000));
+    }
+
+    @Test
+    void amountRangeFallsThroughToLaterRules() {
+        CategorizationRule large = rule(GROCERIES, CategorizationMatchType.CONTAINS, "target");
+        large.setMaxAmountCents(-10000L);
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            large,
+            rule(DINING, CategorizationMatchType.CONTAINS, "target")
+        ));
+
+        assertEquals(GROCERIES, matcher.match("TARGET 0042", -15000));
+        assertEquals(DINING, matcher.match("TARGET 0042", -800));
+    }
+
+    @Test
+    void regexSafetyRejectsNestedQuantifiersAndBackreferences() {
+        assertThrows(IllegalArgumentException.class, () -> CategorizationMatcher.checkRegexSafety("(a+)+$"));
+        assertThrows(IllegalArgumentException.class, () -> CategorizationMatcher.checkRegexSafety("((\\w+)?\\s)*"));
+        assertThrows(IllegalArgumentException.class, () -> CategorizationMatcher.checkRegexSafety("(\\w)\\1"));
+        assertDoesNotThrow(() -> CategorizationMatcher.checkRegexSafety("^(uber|lyft)\\b.*"));
+        assertDoesNotThrow(() -> CategorizationMatcher.checkRegexSafety("(?:ab)+c*?"));
+        assertDoesNotThrow(() -> CategorizationMatcher.checkRegexSafety("[(+)]+"));
+    }
+
+    @Test
+    void regexThatExhaustsStepBudgetDoesNotMatch() {
+        CategorizationMatcher matcher = CategorizationMatcher.compile(List.of(
+            rule(GROCERIES, CategorizationMatchType.REGEX, "(a|aa)+$"),
+            rule(DINING, CategorizationMatchType.CONTAINS, "b")
+        ));
+
+        UUID category = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> matcher.match("a".repeat(48) + "b", -100)
+        );
+        assertEquals(DINING, category);
+    }
+
+    @Test
+    void emptyMatcherMatchesNothing() {
+        assertNull(CategorizationMatcher.EMPTY.match("Anything", -100));
+    }
+
+    private static CategorizationRule rule(UUID categoryId, CategorizationMatchType type, String pattern) {
+        return CategorizationRule.builder()
+            .id(UUID.randomUUID())
+            .categoryId(categoryId)
+            .matchType(type)
+            .pattern(pattern)
+            .build();
+    }
+}
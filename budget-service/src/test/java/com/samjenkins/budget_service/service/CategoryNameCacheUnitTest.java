@@ -0,0 +1,39 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.samjenkins.budget_service.entity.Category;
+import com.samjenkins.budget_service.repository.CategoryRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryNameCacheUnitTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void reloadsEntryWhenRequestedCategoryIsMissing() {
+        UUID userId = UUID.randomUUID();
+        Category food = Category.builder().id(UUID.randomUUID()).userId(userId).name("Food").build();
+        Category travel = Category.builder().id(UUID.randomUUID()).userId(userId).name("Travel").build();
+        when(categoryRepository.findAllByUserIdOrderByNameAsc(userId))
+            .thenReturn(List.of(food))
+            .thenReturn(List.of(food, travel));
+        CategoryNameCache cache = new CategoryNameCache(categoryRepository, 100, Duration.ofMinutes(10));
+
+        assertEquals("Food", cache.namesFor(userId, List.of(food.getId())).get(food.getId()));
+        assertEquals("Travel", cache.namesFor(userId, List.of(travel.getId())).get(travel.getId()));
+        assertEquals("Travel", cache.namesFor(userId, List.of(travel.getId())).get(travel.getId()));
+        verify(categoryRepository, times(2)).findAllByUserIdOrderByNameAsc(userId);
+    }
+}
@@ -0,0 +1,71 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.samjenkins.budget_service.config.IdempotencyProperties;
+import com.samjenkins.budget_service.repository.IdempotencyKeyRepository;
+import com.samjenkins.budget_service.repository.IdempotencyRecord;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceUnitTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Test
+    void failedClaimDoesNotLeaveKeyInFlight() {
+        UUID userId = UUID.randomUUID();
+        IdempotencyService service = service();
+        when(idempotencyKeyRepository.claim(eq(userId), eq("key-1"), eq("hash"), any(), any(), any()))
+            .thenThrow(new IllegalStateException("database down"))
+            .thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.begin(userId, "key-1", "hash"));
+
+        // A retry claims the key itself instead of waiting out the five-minute lease on the failed attempt.
+        IdempotencyService.Outcome outcome = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> service.begin(userId, "key-1", "hash")
+        );
+        assertInstanceOf(IdempotencyService.Outcome.Proceed.class, outcome);
+    }
+
+    @Test
+    void responseFromATakenOverClaimIsNotReplayed() {
+        UUID userId = UUID.randomUUID();
+        IdempotencyService service = service();
+        IdempotencyRecord response = new IdempotencyRecord("hash", 201, "application/json", null, null, new byte[0]);
+        when(idempotencyKeyRepository.claim(eq(userId), eq("key-1"), eq("hash"), any(), any(), any()))
+            .thenReturn(true);
+        when(idempotencyKeyRepository.complete(eq(userId), eq("key-1"), any(), eq(response))).thenReturn(false);
+
+        IdempotencyService.Outcome first = service.begin(userId, "key-1", "hash");
+        UUID claimToken = ((IdempotencyService.Outcome.Proceed) first).claimToken();
+        service.complete(userId, "key-1", claimToken, response);
+
+        // The lease had run out and a retry holds the key now, so the late response is not served from memory.
+        assertInstanceOf(IdempotencyService.Outcome.Proceed.class, service.begin(userId, "key-1", "hash"));
+        verify(idempotencyKeyRepository, times(2)).claim(eq(userId), eq("key-1"), eq("hash"), any(), any(), any());
+    }
+
+    private IdempotencyService service() {
+        return new IdempotencyService(
+            idempotencyKeyRepository,
+            new IdempotencyProperties(Duration.ofHours(24), Duration.ofMinutes(5), 100, 100, DataSize.ofMegabytes(1))
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.samjenkins.budget_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class SpendForecastUnitTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 4, 1);
+    private static final LocalDate END = LocalDate.of(2026, 4, 30);
+
+    @Test
+    void projectsOverspendFromCurrentRate() {
+        // 5,000 of 10,000 spent after 10 of 30 days extrapolates to 15,000.
+        assertTrue(SpendForecast.projectedToExceed(5000, 10000, START, END, LocalDate.of(2026, 4, 10)));
+    }
+
+    @Test
+    void doesNotProjectWhenPaceIsWithinLimit() {
+        assertFalse(SpendForecast.projectedToExceed(3000, 10000, START, END, LocalDate.of(2026, 4, 10)));
+        assertFalse(SpendForecast.projectedToExceed(5000, 10000, START, END, LocalDate.of(2026, 4, 15)));
+    }
+
+    @Test
+    void waitsForMinimumElapsedFractionOfPeriod() {
+        assertFalse(SpendForecast.projectedToExceed(2000, 10000, START, END, LocalDate.of(2026, 4, 2)));
+        assertTrue(SpendForecast.projectedToExceed(4000, 10000, START, END, LocalDate.of(2026, 4, 8)));
+    }
+
+    @Test
+    void skipsAlreadyExceededAndOutOfPeriodBudgets() {
+        assertFalse(SpendForecast.projectedToExceed(10000, 10000, START, END, LocalDate.of(2026, 4, 10)));
+        assertFalse(SpendForecast.projectedToExceed(9000, 10000, START, END, LocalDate.of(2026, 5, 2)));
+        assertFalse(SpendForecast.projectedToExceed(9000, 10000, START, END, LocalDate.of(2026, 3, 31)));
+    }
+}
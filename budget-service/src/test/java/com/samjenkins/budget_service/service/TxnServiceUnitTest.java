@@ -1,21 +1,26 @@
 package com.samjenkins.budget_service.service;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.samjenkins.budget_service.dto.BulkTransactionAction;
+import com.samjenkins.budget_service.dto.BulkTransactionRequest;
 import com.samjenkins.budget_service.dto.CreateTransactionRequest;
+import com.samjenkins.budget_service.dto.TransactionResponse;
 import com.samjenkins.budget_service.dto.UpdateTransactionRequest;
 import com.samjenkins.budget_service.entity.Budget;
 import com.samjenkins.budget_service.entity.BudgetCategoryLimit;
+import com.samjenkins.budget_service.entity.CategorizationMatchType;
+import com.samjenkins.budget_service.entity.CategorizationRule;
 import com.samjenkins.budget_service.entity.TransactionSource;
 import com.samjenkins.budget_service.entity.Txn;
 import com.samjenkins.budget_service.exception.BadRequestException;
+import com.samjenkins.budget_service.exception.ConflictException;
 import com.samjenkins.budget_service.exception.NotFoundException;
 import com.samjenkins.budget_service.repository.BudgetCategoryLimitRepository;
 import com.samjenkins.budget_service.repository.TxnRepository;
@@ -46,6 +51,15 @@ class TxnServiceUnitTest {
     @Mock
     private AlertService alertService;
 
+    @Mock
+    private BudgetVersionService budgetVersionService;
+
+    @Mock
+    private BudgetSpendTracker budgetSpendTracker;
+
+    @Mock
+    private CategorizationMatcherCache categorizationMatcherCache;
+
     @Mock
     private EntityManager entityManager;
 
@@ -121,38 +135,50 @@ class TxnServiceUnitTest {
 
         txnService.create(userId, request);
 
-        verify(alertService).evaluateBudgetThresholdsForBudget(budgetId, categoryId);
+        verify(alertService).enqueueCategoryEvaluationAfterCommit(budgetId, categoryId);
     }
 
     @Test
-    void createContinuesWhenAlertEvaluationFails() {
+    void createAppliesOwnerCategorizationRulesToImportedTransaction() {
         UUID userId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
         UUID budgetId = UUID.randomUUID();
         UUID categoryId = UUID.randomUUID();
         LocalDate date = LocalDate.now();
 
-        Budget budget = Budget.builder().id(budgetId).startDate(date.minusDays(1)).endDate(date.plusDays(1)).build();
+        Budget budget = Budget.builder().id(budgetId).ownerUserId(ownerId).startDate(date.minusDays(1)).endDate(date.plusDays(1)).build();
         when(budgetAccessService.requireWriteAccess(userId, budgetId)).thenReturn(budget);
+        when(categorizationMatcherCache.matcherFor(ownerId)).thenReturn(CategorizationMatcher.compile(List.of(
+            CategorizationRule.builder().categoryId(categoryId).matchType(CategorizationMatchType.CONTAINS).pattern("coffee").build()
+        )));
         when(budgetCategoryLimitRepository.findByBudgetIdAndCategoryId(budgetId, categoryId))
             .thenReturn(Optional.of(BudgetCategoryLimit.builder().budgetId(budgetId).categoryId(categoryId).build()));
-        when(txnRepository.saveAndFlush(any())).thenAnswer(inv -> {
-            Txn txn = inv.getArgument(0);
-            txn.setCreatedAt(OffsetDateTime.now());
-            return txn;
-        });
-        doThrow(new RuntimeException("alert failure")).when(alertService).evaluateBudgetThresholdsForBudget(budgetId, categoryId);
+        when(txnRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
 
         CreateTransactionRequest request = new CreateTransactionRequest(
             budgetId,
-            categoryId,
-            "Store",
             null,
-            -500L,
+            "Corner Coffee",
+            null,
+            -450L,
             date,
-            TransactionSource.MANUAL
+            TransactionSource.IMPORT
         );
 
-        assertDoesNotThrow(() -> txnService.create(userId, request));
+        assertEquals(categoryId, txnService.create(userId, request).categoryId());
+    }
+
+    @Test
+    void bulkMoveRejectsSameBudgetBeforeTouchingRows() {
+        UUID userId = UUID.randomUUID();
+        UUID budgetId = UUID.randomUUID();
+        when(budgetAccessService.requireWriteAccess(userId, budgetId)).thenReturn(Budget.builder().id(budgetId).build());
+
+        BulkTransactionRequest request = new BulkTransactionRequest(
+            BulkTransactionAction.MOVE, List.of(UUID.randomUUID()), null, null, budgetId);
+
+        assertThrows(BadRequestException.class, () -> txnService.bulk(userId, budgetId, request));
+        verify(txnRepository, never()).move(any(), any(), any());
     }
 
     @Test
@@ -162,10 +188,22 @@ class TxnServiceUnitTest {
 
         when(txnRepository.findById(legacy.getId())).thenReturn(Optional.of(legacy));
 
-        UpdateTransactionRequest request = new UpdateTransactionRequest(null, null, null, null, null, null, null);
+        UpdateTransactionRequest request = new UpdateTransactionRequest(null, null, null, null, null, null, null, null);
         assertThrows(NotFoundException.class, () -> txnService.update(actorId, legacy.getId(), request));
     }
 
+    @Test
+    void updateRejectsStaleVersionBeforeWriting() {
+        UUID userId = UUID.randomUUID();
+        Txn current = Txn.builder().id(UUID.randomUUID()).userId(userId).budgetId(UUID.randomUUID()).version(3L).build();
+        when(txnRepository.findById(current.getId())).thenReturn(Optional.of(current));
+
+        UpdateTransactionRequest request = new UpdateTransactionRequest(null, null, "Store", null, null, null, null, 2L);
+
+        assertThrows(ConflictException.class, () -> txnService.update(userId, current.getId(), request));
+        verify(txnRepository, never()).updateIfVersion(any(), anyLong());
+    }
+
     @Test
     void listByBudgetRejectsOutOfRangeQueryWindow() {
         UUID userId = UUID.randomUUID();
@@ -187,17 +225,15 @@ class TxnServiceUnitTest {
         Budget budget = Budget.builder().id(budgetId).startDate(LocalDate.of(2026, 3, 1)).endDate(LocalDate.of(2026, 3, 31)).build();
         when(budgetAccessService.requireReadAccess(userId, budgetId)).thenReturn(budget);
 
-        Txn txn = Txn.builder().id(UUID.randomUUID()).budgetId(budgetId).merchant("Store").amountCents(-100).transactionDate(date)
-            .source(TransactionSource.MANUAL).build();
-        when(txnRepository.findAllByBudgetIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-            any(), any(), any(), any()))
+        TransactionResponse txn = new TransactionResponse(
+            UUID.randomUUID(), budgetId, null, "Store", null, -100, date, TransactionSource.MANUAL, null, null, 0L);
+        when(txnRepository.findResponsesByBudget(any(), any(), any(), any()))
             .thenReturn(List.of(txn));
 
         var result = txnService.listByBudget(userId, budgetId, null, null, null, 50);
 
         assertEquals(1, result.size());
         assertEquals("Store", result.get(0).merchant());
-        verify(txnRepository, never()).findAllByBudgetIdAndCategoryIdAndTransactionDateBetweenOrderByTransactionDateDescCreatedAtDesc(
-            any(), any(), any(), any(), any());
+        verify(txnRepository, never()).findResponsesByBudgetAndCategory(any(), any(), any(), any(), any());
     }
 }
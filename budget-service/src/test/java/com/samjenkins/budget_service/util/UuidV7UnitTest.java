@@ -0,0 +1,30 @@
+package com.samjenkins.budget_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7UnitTest {
+
+    @Test
+    void setsVersionAndVariantAndEmbedsCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue((id.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingWithinAMillisecond() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+}